@@ -0,0 +1,120 @@
+package kr.gracelove.querydsl.admission;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 비싼 조회 앞에 세우는 입장 제한.
+ * <p>
+ * 1. 종류별 bulkhead 에서 자리를 얻는다. 대기열이 꽉 찼거나 기한 안에 자리가 안 나면 바로 QueryRejectedException.
+ * 2. 자리를 얻은 다음에야 읽기 전용 트랜잭션을 연다. (트랜잭션을 열면 커넥션을 잡으니까 기다리는 동안 커넥션을 잡고 있지 않게)
+ * 3. 트랜잭션 timeout 을 남은 시간으로 건다. 스프링이 이 값을 공유 EntityManager 로 만든 쿼리마다 JDBC 쿼리 timeout 으로 넣어준다.
+ *    JDBC timeout 은 초 단위라 올림한다.
+ * <p>
+ * 기한은 요청 기한(Deadline.current())과 종류별 timeout 중 빠른 쪽.
+ * 이미 열린 트랜잭션 안에서 부르면 timeout 이 안 걸리므로 막는다.
+ */
+@Component
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionControl {
+
+    private static final String QUERY_CANCELED = "57014";
+
+    private final Map<QueryClass, Bulkhead> bulkheads = new EnumMap<>(QueryClass.class);
+    private final Map<QueryClass, Duration> timeouts = new EnumMap<>(QueryClass.class);
+    private final PlatformTransactionManager transactionManager;
+
+    public AdmissionControl(AdmissionProperties properties, PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+        for (QueryClass queryClass : QueryClass.values()) {
+            AdmissionProperties.Limit limit = properties.getLimits().getOrDefault(queryClass, new AdmissionProperties.Limit());
+            bulkheads.put(queryClass, new Bulkhead(queryClass, limit.getMaxConcurrent(), limit.getMaxQueue()));
+            timeouts.put(queryClass, limit.getTimeout());
+        }
+    }
+
+    public <R> R execute(QueryClass queryClass, Supplier<R> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("admission must be outside of transaction");
+        }
+        Deadline classDeadline = Deadline.after(timeouts.get(queryClass));
+        Deadline deadline = Deadline.current().map(classDeadline::min).orElse(classDeadline);
+
+        Bulkhead bulkhead = bulkheads.get(queryClass);
+        bulkhead.acquire(deadline);
+        try {
+            long remainingNanos = deadline.remainingNanos();
+            if (remainingNanos <= 0) {
+                bulkhead.timedOut();
+                throw new QueryRejectedException(queryClass, QueryRejectedException.Reason.TIMEOUT, "deadline passed before query");
+            }
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + 999_999_999)));
+            return transaction.execute(status -> work.get());
+        } catch (RuntimeException e) {
+            if (isTimeout(e)) {
+                bulkhead.timedOut();
+                throw new QueryRejectedException(queryClass, QueryRejectedException.Reason.TIMEOUT, "query timed out", e);
+            }
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public List<AdmissionMetrics> metrics() {
+        List<AdmissionMetrics> metrics = new ArrayList<>();
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            metrics.add(bulkhead.metrics());
+        }
+        return metrics;
+    }
+
+    public AdmissionMetrics metrics(QueryClass queryClass) {
+        return bulkheads.get(queryClass).metrics();
+    }
+
+    /**
+     * 스프링 예외 변환을 거쳤는지, 어느 계층에서 났는지에 따라 모양이 달라서 원인을 끝까지 따라가 본다.
+     */
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransactionTimedOutException
+                    || cause instanceof org.springframework.dao.QueryTimeoutException
+                    || cause instanceof javax.persistence.QueryTimeoutException
+                    || cause instanceof org.hibernate.QueryTimeoutException
+                    || cause instanceof SQLTimeoutException) {
+                return true;
+            }
+            if (cause instanceof SQLException && QUERY_CANCELED.equals(((SQLException) cause).getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
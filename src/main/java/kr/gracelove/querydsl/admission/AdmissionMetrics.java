@@ -0,0 +1,35 @@
+package kr.gracelove.querydsl.admission;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class AdmissionMetrics {
+
+    private final QueryClass queryClass;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final int active;
+    private final int queued;
+    private final long admitted;
+    private final long rejectedQueueFull;
+    private final long rejectedDeadline;
+    private final long timedOut;
+
+    public long getRejected() {
+        return rejectedQueueFull + rejectedDeadline + timedOut;
+    }
+}
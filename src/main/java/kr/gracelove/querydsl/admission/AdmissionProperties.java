@@ -0,0 +1,40 @@
+package kr.gracelove.querydsl.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 종류별 max-concurrent 합은 커넥션 풀 크기보다 작게 잡는다. 그래야 비싼 쿼리가 몰려도 나머지가 커넥션을 얻는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("admission")
+public class AdmissionProperties {
+
+    private Duration requestTimeout = Duration.ofSeconds(5);
+    private Duration maxRequestTimeout = Duration.ofSeconds(30);
+    private Map<QueryClass, Limit> limits = new EnumMap<>(QueryClass.class);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int maxConcurrent = 2;
+        private int maxQueue = 8;
+        private Duration timeout = Duration.ofSeconds(3);
+    }
+}
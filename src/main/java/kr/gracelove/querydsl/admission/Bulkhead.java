@@ -0,0 +1,90 @@
+package kr.gracelove.querydsl.admission;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 쿼리 종류 하나의 동시 실행 수 제한. 자리가 없으면 maxQueue 까지만 기한 안에서 먼저 온 순서대로 기다린다.
+ */
+class Bulkhead {
+
+    private final QueryClass queryClass;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedDeadline = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    Bulkhead(QueryClass queryClass, int maxConcurrent, int maxQueue) {
+        this.queryClass = queryClass;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    void acquire(Deadline deadline) {
+        if (deadline.isExpired()) {
+            rejectedDeadline.increment();
+            throw new QueryRejectedException(queryClass, QueryRejectedException.Reason.DEADLINE_EXCEEDED, "deadline already passed");
+        }
+        if (tryAcquire(0)) { // fair 라서 기다리는 쪽이 있으면 새치기하지 않는다.
+            admitted.increment();
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            rejectedQueueFull.increment();
+            throw new QueryRejectedException(queryClass, QueryRejectedException.Reason.QUEUE_FULL,
+                    maxConcurrent + " running, " + maxQueue + " waiting");
+        }
+        try {
+            if (!tryAcquire(deadline.remainingNanos())) {
+                rejectedDeadline.increment();
+                throw new QueryRejectedException(queryClass, QueryRejectedException.Reason.DEADLINE_EXCEEDED,
+                        "no slot before deadline");
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+        admitted.increment();
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    void timedOut() {
+        timedOut.increment();
+    }
+
+    AdmissionMetrics metrics() {
+        return new AdmissionMetrics(queryClass, maxConcurrent, maxQueue,
+                maxConcurrent - permits.availablePermits(), queued.get(),
+                admitted.sum(), rejectedQueueFull.sum(), rejectedDeadline.sum(), timedOut.sum());
+    }
+
+    private boolean tryAcquire(long nanos) {
+        try {
+            return permits.tryAcquire(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedDeadline.increment();
+            throw new QueryRejectedException(queryClass, QueryRejectedException.Reason.DEADLINE_EXCEEDED, "interrupted while waiting");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package kr.gracelove.querydsl.admission;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 요청이 끝나야 하는 시각. 웹 요청은 RequestDeadlineFilter 가 스레드에 걸어둔다.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long nanoTime;
+
+    private Deadline(long nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public long remainingNanos() {
+        return nanoTime - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    public Deadline min(Deadline other) {
+        return nanoTime - other.nanoTime <= 0 ? this : other;
+    }
+}
@@ -0,0 +1,20 @@
+package kr.gracelove.querydsl.admission;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 비싼 정도가 비슷한 쿼리끼리 묶은 것. 종류마다 동시 실행 수(bulkhead)와 대기열을 따로 가진다.
+ */
+public enum QueryClass {
+    LOOKUP,  // username, id 로 한건
+    SEARCH,  // 색인 없는 like 검색 등
+    PAGED    // fetchResults() 처럼 count 쿼리가 같이 나가는 페이징
+}
@@ -0,0 +1,41 @@
+package kr.gracelove.querydsl.admission;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 부하를 덜어내려고 쿼리를 안 돌렸거나(QUEUE_FULL, DEADLINE_EXCEEDED) 돌리다 시간이 다 됐다(TIMEOUT).
+ * 웹 요청이면 503 으로 나간다.
+ */
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class QueryRejectedException extends RuntimeException {
+
+    public enum Reason {
+        QUEUE_FULL, DEADLINE_EXCEEDED, TIMEOUT
+    }
+
+    private final QueryClass queryClass;
+    private final Reason reason;
+
+    public QueryRejectedException(QueryClass queryClass, Reason reason, String message) {
+        this(queryClass, reason, message, null);
+    }
+
+    public QueryRejectedException(QueryClass queryClass, Reason reason, String message, Throwable cause) {
+        super(queryClass + " query rejected (" + reason + ") : " + message, cause);
+        this.queryClass = queryClass;
+        this.reason = reason;
+    }
+}
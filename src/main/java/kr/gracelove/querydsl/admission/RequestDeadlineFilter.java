@@ -0,0 +1,60 @@
+package kr.gracelove.querydsl.admission;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 요청마다 기한을 건다. 클라이언트가 X-Request-Timeout (ms) 으로 줄일 수 있고 max-request-timeout 까지만 늘릴 수 있다.
+ */
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final AdmissionProperties properties;
+
+    public RequestDeadlineFilter(AdmissionProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Deadline.set(Deadline.after(timeoutOf(request)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.clear();
+        }
+    }
+
+    private Duration timeoutOf(HttpServletRequest request) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header == null) {
+            return properties.getRequestTimeout();
+        }
+        try {
+            Duration requested = Duration.ofMillis(Math.max(0, Long.parseLong(header.trim())));
+            return requested.compareTo(properties.getMaxRequestTimeout()) > 0 ? properties.getMaxRequestTimeout() : requested;
+        } catch (NumberFormatException e) {
+            return properties.getRequestTimeout();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package kr.gracelove.querydsl.analytics;
+
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * count, sum, avg, max, min. 대상이 없으면 SQL 처럼 avg, min, max 는 null.
+ * 평균은 sum / count 로 구하므로 부분집계끼리 merge 해도 정확하다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class AgeStats {
+
+    public static final AgeStats EMPTY = new AgeStats(0, 0, null, null);
+
+    /**
+     * sum(member.age) 를 Long 으로 받는다. DB에서 집계할 때 (MemberAnalytics, ShardedMemberRepository) 같이 쓴다.
+     */
+    public static final NumberExpression<Long> AGE_SUM = Expressions.numberTemplate(Long.class, "sum({0})", member.age);
+
+    private final long count;
+    private final long sum;
+    private final Integer min;
+    private final Integer max;
+
+    public AgeStats(long count, long sum, Integer min, Integer max) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public Double getAvg() {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    public AgeStats merge(AgeStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        return new AgeStats(count + other.count, sum + other.sum,
+                Math.min(min, other.min), Math.max(max, other.max));
+    }
+}
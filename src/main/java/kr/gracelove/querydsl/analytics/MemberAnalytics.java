@@ -0,0 +1,248 @@
+package kr.gracelove.querydsl.analytics;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import kr.gracelove.querydsl.changefeed.ChangeEvent;
+import kr.gracelove.querydsl.changefeed.ChangeFeed;
+import kr.gracelove.querydsl.changefeed.ChangeFeedListener;
+import kr.gracelove.querydsl.changefeed.ChangeFeedSnapshot;
+import kr.gracelove.querydsl.changefeed.ChangeType;
+import kr.gracelove.querydsl.changefeed.EntityVersions;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import kr.gracelove.querydsl.repository.ReadOnlyQueryFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static kr.gracelove.querydsl.analytics.AgeStats.AGE_SUM;
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static kr.gracelove.querydsl.entity.QTeam.team;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 회원 나이 집계 (count, sum, avg, max, min / 팀별). MemberTest 의 aggregation(), group() 과 같은 결과.
+ * <p>
+ * 메모리의 컬럼형 스냅샷(MemberColumns)에서 계산하고, 스냅샷은 체인지피드로 따라간다.
+ * 기동 직후나 벌크연산, 피드 overflow 로 스냅샷을 다시 만드는 중에는 QueryDSL 로 DB에서 계산한다. -> ChangeFeedSnapshot
+ * 피드가 비동기라서 커밋 직후 몇 ms 는 스냅샷이 늦을 수 있다.
+ */
+@Component
+public class MemberAnalytics implements ChangeFeedListener {
+
+    private final ChangeFeed changeFeed;
+    private final ReadOnlyQueryFactory queryFactory;
+    private final ChangeFeedSnapshot<Columns> snapshot;
+
+    public MemberAnalytics(ChangeFeed changeFeed, ReadOnlyQueryFactory queryFactory) {
+        this.changeFeed = changeFeed;
+        this.queryFactory = queryFactory;
+        this.snapshot = new ChangeFeedSnapshot<>("member-analytics", new Columns(), this::load, this::apply);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        changeFeed.subscribe(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        changeFeed.unsubscribe(this);
+        snapshot.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        snapshot.scheduleRebuild();
+    }
+
+    /**
+     * false 면 스냅샷을 만드는 중이고 조회는 DB로 간다.
+     */
+    public boolean isFresh() {
+        return snapshot.isFresh();
+    }
+
+    public AgeStats ageStats() {
+        return ageStats(null, null);
+    }
+
+    /**
+     * @param minAge null 이면 하한 없음. (이상)
+     * @param maxAge null 이면 상한 없음. (이하)
+     */
+    public AgeStats ageStats(Integer minAge, Integer maxAge) {
+        if (isFresh()) {
+            return snapshot.current().members.ageStats(lower(minAge), upper(maxAge));
+        }
+        Tuple tuple = queryFactory
+                .select(member.count(), AGE_SUM, member.age.min(), member.age.max())
+                .from(member)
+                .where(ageBetween(minAge, maxAge))
+                .fetchOne();
+        long count = tuple.get(member.count());
+        return count == 0 ? AgeStats.EMPTY : new AgeStats(count, tuple.get(AGE_SUM),
+                tuple.get(member.age.min()), tuple.get(member.age.max()));
+    }
+
+    public List<TeamAgeStats> ageStatsByTeam() {
+        return ageStatsByTeam(null, null);
+    }
+
+    /**
+     * 팀 이름 오름차순. 팀 없는 회원은 빠진다.
+     */
+    public List<TeamAgeStats> ageStatsByTeam(Integer minAge, Integer maxAge) {
+        List<TeamAgeStats> result = new ArrayList<>();
+        if (isFresh()) {
+            Columns current = snapshot.current();
+            Map<Long, String> names = current.teamNames;
+            current.members.ageStatsByTeam(lower(minAge), upper(maxAge))
+                    .forEach((teamId, stats) -> result.add(new TeamAgeStats(teamId, names.get(teamId), stats)));
+            result.sort(Comparator.comparing(TeamAgeStats::getTeamName, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(TeamAgeStats::getTeamId));
+            return result;
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(team.id, team.name, member.count(), AGE_SUM, member.age.min(), member.age.max())
+                .from(member)
+                .join(member.team, team)
+                .where(ageBetween(minAge, maxAge))
+                .groupBy(team.id, team.name)
+                .orderBy(team.name.asc(), team.id.asc())
+                .fetch();
+        for (Tuple row : rows) {
+            result.add(new TeamAgeStats(row.get(team.id), row.get(team.name), new AgeStats(
+                    row.get(member.count()), row.get(AGE_SUM), row.get(member.age.min()), row.get(member.age.max()))));
+        }
+        return result;
+    }
+
+    public long countByUsername(String username) {
+        if (isFresh()) {
+            return snapshot.current().members.countByUsername(username);
+        }
+        return queryFactory
+                .selectFrom(member)
+                .where(username == null ? member.username.isNull() : member.username.eq(username))
+                .fetchCount();
+    }
+
+    private static int lower(Integer minAge) {
+        return minAge == null ? Integer.MIN_VALUE : minAge;
+    }
+
+    private static int upper(Integer maxAge) {
+        return maxAge == null ? Integer.MAX_VALUE : maxAge;
+    }
+
+    private static BooleanBuilder ageBetween(Integer minAge, Integer maxAge) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (minAge != null) {
+            builder.and(member.age.goe(minAge));
+        }
+        if (maxAge != null) {
+            builder.and(member.age.loe(maxAge));
+        }
+        return builder;
+    }
+
+    @Override
+    public void onChanges(List<ChangeEvent> events) {
+        snapshot.apply(events);
+    }
+
+    /**
+     * 커밋한 스레드에서 바로 재구성을 예약한다. 벌크연산이 끝나고 나면 조회는 DB로 간다.
+     */
+    @Override
+    public void onBulkPublished(ChangeEvent event) {
+        if (event.concerns(Member.class) || event.concerns(Team.class)) {
+            snapshot.scheduleRebuild();
+        }
+    }
+
+    @Override
+    public void onOverflow() {
+        snapshot.scheduleRebuild();
+    }
+
+    public void rebuild() {
+        snapshot.rebuild();
+    }
+
+    private void apply(Columns columns, ChangeEvent event) {
+        if (event.isBulk()) {
+            return; // onBulkPublished 에서 이미 재구성을 예약했다.
+        }
+
+        if (event.concerns(Member.class)) {
+            long id = (Long) event.getId();
+            if (event.getType() == ChangeType.DELETED) {
+                columns.members.delete(id);
+            } else {
+                Map<String, Object> state = event.getState();
+                columns.members.upsert(id, (String) state.get("username"), (Integer) state.get("age"), (Long) state.get("team"));
+            }
+        } else if (event.concerns(Team.class)) {
+            Long id = (Long) event.getId();
+            String name = event.getType() == ChangeType.DELETED ? null : (String) event.getState().get("name");
+            if (name == null) {
+                columns.teamNames.remove(id);
+            } else {
+                columns.teamNames.put(id, name);
+            }
+        }
+    }
+
+    private Columns load(EntityVersions versions) {
+        Columns columns = new Columns();
+        queryFactory.select(member.id, member.username, member.age, member.team.id, member.version)
+                .from(member)
+                .fetch()
+                .forEach(row -> {
+                    columns.members.upsert(row.get(member.id), row.get(member.username),
+                            row.get(member.age), row.get(member.team.id));
+                    versions.seed(Member.class, row.get(member.id), row.get(member.version));
+                });
+        queryFactory.select(team.id, team.name, team.version)
+                .from(team)
+                .fetch()
+                .forEach(row -> {
+                    if (row.get(team.name) != null) {
+                        columns.teamNames.put(row.get(team.id), row.get(team.name));
+                    }
+                    versions.seed(Team.class, row.get(team.id), row.get(team.version));
+                });
+        return columns;
+    }
+
+    private static class Columns {
+
+        private final MemberColumns members = new MemberColumns();
+        private final Map<Long, String> teamNames = new ConcurrentHashMap<>();
+
+        @Override
+        public String toString() {
+            return members.size() + " members, " + teamNames.size() + " teams";
+        }
+    }
+}
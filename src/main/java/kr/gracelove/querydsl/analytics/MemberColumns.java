@@ -0,0 +1,313 @@
+package kr.gracelove.querydsl.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * Member 의 컬럼형 스냅샷. 행 하나 = 배열들의 같은 인덱스.
+ * <p>
+ * - age 는 int[] 그대로, team_id 와 username 은 사전(dictionary)으로 바꾼 int 코드로 들고 있다.
+ * - 삭제는 live 만 끄고, 절반 이상 지워지면 압축한다.
+ *   압축할 때 사전도 살아있는 행의 값만으로 다시 만든다. 삭제 없이 이름만 자꾸 바뀌어서 사전이 커져도 압축한다.
+ * - 집계는 CHUNK 행씩 나눠서 병렬로 돌리고 부분집계를 합친다.
+ * 읽기끼리는 동시에, 쓰기는 읽기와 배타적으로.
+ */
+class MemberColumns {
+
+    static final int NO_TEAM = -1;
+    private static final int CHUNK = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rowOf = new HashMap<>();
+    private Dictionary<Long> teams = new Dictionary<>();
+    private Dictionary<String> usernames = new Dictionary<>();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] ages = new int[INITIAL_CAPACITY];
+    private int[] teamCodes = new int[INITIAL_CAPACITY];
+    private int[] usernameCodes = new int[INITIAL_CAPACITY];
+    private boolean[] live = new boolean[INITIAL_CAPACITY];
+    private int rows;
+    private int deleted;
+
+    void upsert(long id, String username, int age, Long teamId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowOf.get(id);
+            if (row == null) {
+                ensureCapacity(rows + 1);
+                row = rows++;
+                rowOf.put(id, row);
+                ids[row] = id;
+                live[row] = true;
+            }
+            ages[row] = age;
+            teamCodes[row] = teamId == null ? NO_TEAM : teams.encode(teamId);
+            usernameCodes[row] = usernames.encode(username);
+            if (usernames.size() > dictionaryLimit() || teams.size() > dictionaryLimit()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void delete(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowOf.remove(id);
+            if (row == null) {
+                return;
+            }
+            live[row] = false;
+            deleted++;
+            if (rows > INITIAL_CAPACITY && deleted > rows / 2) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return rows - deleted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int usernameDictionarySize() {
+        lock.readLock().lock();
+        try {
+            return usernames.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    AgeStats ageStats(int minAge, int maxAge) {
+        lock.readLock().lock();
+        try {
+            return chunks()
+                    .mapToObj(chunk -> aggregate(chunk * CHUNK, Math.min(rows, (chunk + 1) * CHUNK), minAge, maxAge))
+                    .reduce(AgeStats.EMPTY, AgeStats::merge);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 팀 없는 회원은 빠진다. (inner join 과 같다)
+     *
+     * @return team_id -> 집계. team_id 오름차순.
+     */
+    Map<Long, AgeStats> ageStatsByTeam(int minAge, int maxAge) {
+        lock.readLock().lock();
+        try {
+            int teamCount = teams.size();
+            GroupAccumulator total = chunks()
+                    .mapToObj(chunk -> group(chunk * CHUNK, Math.min(rows, (chunk + 1) * CHUNK), minAge, maxAge, teamCount))
+                    .reduce(new GroupAccumulator(teamCount), GroupAccumulator::merge);
+
+            List<Long> teamIds = new ArrayList<>();
+            for (int code = 0; code < teamCount; code++) {
+                if (total.counts[code] > 0) {
+                    teamIds.add(teams.decode(code));
+                }
+            }
+            teamIds.sort(null);
+
+            Map<Long, AgeStats> result = new LinkedHashMap<>();
+            for (Long teamId : teamIds) {
+                int code = teams.codeOf(teamId);
+                result.put(teamId, new AgeStats(total.counts[code], total.sums[code], total.mins[code], total.maxs[code]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문자열 비교 대신 사전 코드(int) 비교로 센다.
+     */
+    long countByUsername(String username) {
+        lock.readLock().lock();
+        try {
+            int code = usernames.codeOf(username);
+            if (code < 0) {
+                return 0;
+            }
+            return chunks()
+                    .mapToLong(chunk -> {
+                        long count = 0;
+                        for (int i = chunk * CHUNK, end = Math.min(rows, (chunk + 1) * CHUNK); i < end; i++) {
+                            if (live[i] && usernameCodes[i] == code) {
+                                count++;
+                            }
+                        }
+                        return count;
+                    })
+                    .sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private IntStream chunks() {
+        return IntStream.range(0, (rows + CHUNK - 1) / CHUNK).parallel();
+    }
+
+    private AgeStats aggregate(int from, int to, int minAge, int maxAge) {
+        long count = 0;
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            int age = ages[i];
+            if (!live[i] || age < minAge || age > maxAge) {
+                continue;
+            }
+            count++;
+            sum += age;
+            min = Math.min(min, age);
+            max = Math.max(max, age);
+        }
+        return count == 0 ? AgeStats.EMPTY : new AgeStats(count, sum, min, max);
+    }
+
+    private GroupAccumulator group(int from, int to, int minAge, int maxAge, int teamCount) {
+        GroupAccumulator acc = new GroupAccumulator(teamCount);
+        for (int i = from; i < to; i++) {
+            int code = teamCodes[i];
+            int age = ages[i];
+            if (!live[i] || code == NO_TEAM || age < minAge || age > maxAge) {
+                continue;
+            }
+            acc.counts[code]++;
+            acc.sums[code] += age;
+            acc.mins[code] = Math.min(acc.mins[code], age);
+            acc.maxs[code] = Math.max(acc.maxs[code], age);
+        }
+        return acc;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        ages = Arrays.copyOf(ages, newCapacity);
+        teamCodes = Arrays.copyOf(teamCodes, newCapacity);
+        usernameCodes = Arrays.copyOf(usernameCodes, newCapacity);
+        live = Arrays.copyOf(live, newCapacity);
+    }
+
+    /**
+     * 살아있는 행이 쓰는 값보다 사전이 이만큼 크면 압축한다.
+     */
+    private int dictionaryLimit() {
+        return Math.max(INITIAL_CAPACITY, (rows - deleted) * 2);
+    }
+
+    private void compact() {
+        Dictionary<Long> liveTeams = new Dictionary<>();
+        Dictionary<String> liveUsernames = new Dictionary<>();
+        int target = 0;
+        for (int i = 0; i < rows; i++) {
+            if (!live[i]) {
+                continue;
+            }
+            ids[target] = ids[i];
+            ages[target] = ages[i];
+            teamCodes[target] = teamCodes[i] == NO_TEAM ? NO_TEAM : liveTeams.encode(teams.decode(teamCodes[i]));
+            usernameCodes[target] = liveUsernames.encode(usernames.decode(usernameCodes[i]));
+            live[target] = true;
+            rowOf.put(ids[target], target);
+            target++;
+        }
+        Arrays.fill(live, target, rows, false);
+        rows = target;
+        deleted = 0;
+        teams = liveTeams;
+        usernames = liveUsernames;
+    }
+
+    private static class GroupAccumulator {
+        final long[] counts;
+        final long[] sums;
+        final int[] mins;
+        final int[] maxs;
+
+        GroupAccumulator(int size) {
+            counts = new long[size];
+            sums = new long[size];
+            mins = new int[size];
+            maxs = new int[size];
+            Arrays.fill(mins, Integer.MAX_VALUE);
+            Arrays.fill(maxs, Integer.MIN_VALUE);
+        }
+
+        GroupAccumulator merge(GroupAccumulator other) {
+            GroupAccumulator merged = new GroupAccumulator(counts.length);
+            for (int i = 0; i < counts.length; i++) {
+                merged.counts[i] = counts[i] + other.counts[i];
+                merged.sums[i] = sums[i] + other.sums[i];
+                merged.mins[i] = Math.min(mins[i], other.mins[i]);
+                merged.maxs[i] = Math.max(maxs[i], other.maxs[i]);
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * 값 -> 코드(0부터). 코드는 안 지우고 compact() 에서 통째로 새로 만든다.
+     */
+    private static class Dictionary<T> {
+        private final Map<T, Integer> codes = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        int encode(T value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        int codeOf(T value) {
+            return codes.getOrDefault(value, -1);
+        }
+
+        T decode(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package kr.gracelove.querydsl.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.gracelove.querydsl.changefeed.ChangeEvent;
+import kr.gracelove.querydsl.changefeed.ChangeFeed;
+import kr.gracelove.querydsl.changefeed.ChangeFeedListener;
+import kr.gracelove.querydsl.dto.MemberLookupDto;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.repository.ReadOnlyQueryFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * username -> 회원 near-cache.
+ * selectFrom(member).where(member.username.eq(username)).fetchOne() 을 대신한다.
+ * <p>
+ * - Caffeine (W-TinyLFU) 으로 크기 제한. 같은 키를 동시에 놓치면 DB 조회는 한번만 나간다.
+ * - 없는 username 도 Optional.empty() 로 짧게(negative-ttl) 캐시한다.
+ * - 무효화는 체인지피드로. persist, changeTeam 같은 변경감지는 그 username 만,
+ *   벌크연산(bulkUpdateUsername)은 어떤 username 이 바뀌었는지 모르니 전부.
+ * - 쓰기 트랜잭션 안에서는 캐시를 안 쓴다. 커밋 안 된 값이 캐시에 들어가면 안 되니까.
+ */
+@Component
+public class MemberLookupCache implements ChangeFeedListener {
+
+    private static final ConstructorExpression<MemberLookupDto> LOOKUP = Projections.constructor(MemberLookupDto.class,
+            member.id,
+            member.username,
+            member.age,
+            member.team.id);
+
+    private final ChangeFeed changeFeed;
+    private final JPAQueryFactory queryFactory;
+    private final ReadOnlyQueryFactory readOnlyQueryFactory;
+    private final LoadingCache<String, Optional<MemberLookupDto>> cache;
+
+    public MemberLookupCache(ChangeFeed changeFeed,
+                             JPAQueryFactory queryFactory,
+                             ReadOnlyQueryFactory readOnlyQueryFactory,
+                             @Value("${cache.member-lookup.maximum-size:10000}") long maximumSize,
+                             @Value("${cache.member-lookup.ttl:10m}") Duration ttl,
+                             @Value("${cache.member-lookup.negative-ttl:30s}") Duration negativeTtl) {
+        this.changeFeed = changeFeed;
+        this.queryFactory = queryFactory;
+        this.readOnlyQueryFactory = readOnlyQueryFactory;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PositiveNegativeExpiry(ttl, negativeTtl))
+                .recordStats()
+                .build(this::load);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        changeFeed.subscribe(this);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        changeFeed.unsubscribe(this);
+    }
+
+    /**
+     * username 이 여러 회원이면 fetchOne() 처럼 NonUniqueResultException.
+     */
+    public Optional<MemberLookupDto> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return fetch(queryFactory.select(LOOKUP), username); // 아직 flush 안 한 내 변경도 보이게.
+        }
+        return cache.get(username);
+    }
+
+    /**
+     * hitRate(), averageLoadPenalty() (ns), evictionCount() 등.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public MemberLookupCacheMetrics metrics() {
+        CacheStats stats = cache.stats();
+        return new MemberLookupCacheMetrics(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.loadCount(),
+                stats.loadFailureCount(),
+                stats.averageLoadPenalty() / 1_000_000,
+                stats.evictionCount());
+    }
+
+    private Optional<MemberLookupDto> load(String username) {
+        return fetch(readOnlyQueryFactory.select(LOOKUP), username);
+    }
+
+    private static Optional<MemberLookupDto> fetch(JPAQuery<MemberLookupDto> query, String username) {
+        return Optional.ofNullable(query
+                .from(member)
+                .where(member.username.eq(username))
+                .fetchOne());
+    }
+
+    @Override
+    public void onChanges(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            if (!event.concerns(Member.class)) {
+                continue;
+            }
+            switch (event.getType()) {
+                case INSERTED:
+                    invalidate(event.getState().get("username"));
+                    break;
+                case UPDATED:
+                    if (event.getPreviousState().isEmpty()) {
+                        cache.invalidateAll(); // 이전 username 을 모른다. (merge 등)
+                    } else {
+                        invalidate(event.getPreviousState().get("username"));
+                        invalidate(event.getState().get("username"));
+                    }
+                    break;
+                case DELETED:
+                    invalidate(event.getPreviousState().get("username"));
+                    break;
+                case BULK:
+                    cache.invalidateAll();
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public void onOverflow() {
+        cache.invalidateAll();
+    }
+
+    private void invalidate(Object username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    private static class PositiveNegativeExpiry implements Expiry<String, Optional<MemberLookupDto>> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        PositiveNegativeExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Optional<MemberLookupDto> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<MemberLookupDto> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<MemberLookupDto> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package kr.gracelove.querydsl.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * MemberLookupCache 스냅샷. 기동 후 누적값.
+ * averageLoadMillis 는 DB 조회 한번(캐시 miss)에 걸린 평균 시간.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MemberLookupCacheMetrics {
+
+    private final long size;
+    private final long hits;
+    private final long misses;
+    private final double hitRate;
+    private final long loads;
+    private final long loadFailures;
+    private final double averageLoadMillis;
+    private final long evictions;
+}
@@ -0,0 +1,129 @@
+package kr.gracelove.querydsl.changefeed;
+
+import com.querydsl.core.types.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 트랜잭션 안에서 생긴 변경을 모아뒀다가 커밋된 뒤에만 체인지피드로 보낸다. 롤백되면 버린다.
+ * 트랜잭션 밖이면 바로 보낸다.
+ * <p>
+ * 커밋한 스레드가 afterCommit 에서 직접 보내므로, 동시에 커밋한 트랜잭션끼리는 피드에 커밋 순서대로 들어간다는 보장이 없다.
+ * <p>
+ * REQUIRES_NEW 로 바깥 트랜잭션이 일시정지되면 모아둔 것도 같이 떼어둔다. 안쪽 트랜잭션은 자기 것만 모아서 자기 커밋에 보낸다.
+ * 한 트랜잭션에서 changefeed.capacity 보다 많이 모이면 (대량 insert 등) 링버퍼에 다 들어가지도 않으니
+ * 엔티티 종류마다 벌크 이벤트 하나로 바꿔서 보낸다.
+ */
+@Component
+public class ChangeCapture {
+
+    private final ChangeFeed changeFeed;
+    private final int capacity;
+
+    public ChangeCapture(ChangeFeed changeFeed, @Value("${changefeed.capacity:8192}") int capacity) {
+        this.changeFeed = changeFeed;
+        this.capacity = capacity;
+    }
+
+    public void capture(ChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changeFeed.publish(event);
+            return;
+        }
+        pendingEvents().add(event);
+    }
+
+    /**
+     * 벌크연산은 엔티티 이벤트가 안 나가기 때문에 execute() 한 쪽에서 직접 알려줘야 한다.
+     *
+     * @param where 벌크연산에 쓴 조건. null 이면 전체.
+     */
+    public void bulk(Class<?> entityType, Predicate where) {
+        capture(ChangeEvent.bulk(entityType, where));
+    }
+
+    private Pending pendingEvents() {
+        Pending events = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (events != null) {
+            return events;
+        }
+
+        Pending pending = new Pending(capacity);
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(ChangeCapture.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(ChangeCapture.this, pending);
+            }
+
+            @Override
+            public void afterCommit() {
+                changeFeed.publishAll(pending.events());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeCapture.this);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * 한 트랜잭션에서 모은 이벤트. capacity 를 넘으면 목록을 버리고 어떤 엔티티가 바뀌었는지만 남긴다.
+     */
+    private static class Pending {
+
+        private final int capacity;
+        private List<ChangeEvent> events = new ArrayList<>();
+        private final Set<Class<?>> overflowed = new LinkedHashSet<>();
+
+        Pending(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void add(ChangeEvent event) {
+            if (events == null) {
+                overflowed.add(event.getEntityType());
+                return;
+            }
+            events.add(event);
+            if (events.size() > capacity) {
+                events.forEach(collected -> overflowed.add(collected.getEntityType()));
+                events = null;
+            }
+        }
+
+        List<ChangeEvent> events() {
+            if (events != null) {
+                return events;
+            }
+            return overflowed.stream()
+                    .map(entityType -> ChangeEvent.bulk(entityType, null))
+                    .collect(Collectors.toList());
+        }
+    }
+}
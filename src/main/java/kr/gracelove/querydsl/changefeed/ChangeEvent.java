@@ -0,0 +1,75 @@
+package kr.gracelove.querydsl.changefeed;
+
+import com.querydsl.core.types.Predicate;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 커밋된 변경 한 건.
+ * state / previousState 는 프로퍼티명 -> 값. 연관 엔티티는 id로 바꿔서 담는다. (ex. team -> team_id)
+ * version 은 변경 후의 @Version 값. 삭제면 지워질 때의 값. 버전이 없는 엔티티나 벌크연산이면 null.
+ */
+@Getter
+@ToString(of = {"entityType", "type", "id", "version", "predicate"})
+public class ChangeEvent {
+
+    private final Class<?> entityType;
+    private final ChangeType type;
+    private final Object id;
+    private final Long version;
+    private final Map<String, Object> state;
+    private final Map<String, Object> previousState;
+    private final Predicate predicate;
+
+    private ChangeEvent(Class<?> entityType, ChangeType type, Object id, Long version,
+                        Map<String, Object> state, Map<String, Object> previousState, Predicate predicate) {
+        this.entityType = entityType;
+        this.type = type;
+        this.id = id;
+        this.version = version;
+        this.state = state != null ? state : Collections.emptyMap();
+        this.previousState = previousState != null ? previousState : Collections.emptyMap();
+        this.predicate = predicate;
+    }
+
+    public static ChangeEvent inserted(Class<?> entityType, Object id, Long version, Map<String, Object> state) {
+        return new ChangeEvent(entityType, ChangeType.INSERTED, id, version, state, null, null);
+    }
+
+    public static ChangeEvent updated(Class<?> entityType, Object id, Long version,
+                                      Map<String, Object> state, Map<String, Object> previousState) {
+        return new ChangeEvent(entityType, ChangeType.UPDATED, id, version, state, previousState, null);
+    }
+
+    public static ChangeEvent deleted(Class<?> entityType, Object id, Long version, Map<String, Object> previousState) {
+        return new ChangeEvent(entityType, ChangeType.DELETED, id, version, null, previousState, null);
+    }
+
+    /**
+     * @param predicate 벌크연산의 where 조건. null 이면 테이블 전체가 대상.
+     */
+    public static ChangeEvent bulk(Class<?> entityType, Predicate predicate) {
+        return new ChangeEvent(entityType, ChangeType.BULK, null, null, null, null, predicate);
+    }
+
+    public boolean isBulk() {
+        return type == ChangeType.BULK;
+    }
+
+    public boolean concerns(Class<?> type) {
+        return type.isAssignableFrom(entityType);
+    }
+}
@@ -0,0 +1,175 @@
+package kr.gracelove.querydsl.changefeed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 프로세스 내 체인지피드.
+ * 커밋된 변경을 링버퍼에 넣고, 디스패처 스레드 하나가 배치로 꺼내서 구독자에게 비동기로 전달한다.
+ * 버퍼가 가득 차면 이벤트를 버리고(dropped) 다음 배치 전에 구독자에게 onOverflow 를 알린다.
+ * 벌크 이벤트는 보내는 스레드에서 onBulkPublished 로 먼저 알린다.
+ */
+@Slf4j
+@Component
+public class ChangeFeed {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ChangeRingBuffer buffer;
+    private final int batchSize;
+    private final List<ChangeFeedListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicInteger maxBatchSize = new AtomicInteger();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public ChangeFeed(@Value("${changefeed.capacity:8192}") int capacity,
+                      @Value("${changefeed.batch-size:256}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive : " + batchSize);
+        }
+        this.buffer = new ChangeRingBuffer(capacity);
+        this.batchSize = batchSize;
+    }
+
+    public boolean publish(ChangeEvent event) {
+        if (event.isBulk()) {
+            listeners.forEach(listener -> notifyBulk(listener, event));
+        }
+        if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        published.incrementAndGet();
+        maxDepth.accumulateAndGet(buffer.size(), Math::max);
+        return true;
+    }
+
+    public void publishAll(Collection<ChangeEvent> events) {
+        events.forEach(this::publish);
+    }
+
+    public void subscribe(ChangeFeedListener listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(ChangeFeedListener listener) {
+        listeners.remove(listener);
+    }
+
+    public ChangeFeedMetrics metrics() {
+        return new ChangeFeedMetrics(
+                published.get(),
+                dropped.get(),
+                delivered.get(),
+                batches.get(),
+                maxBatchSize.get(),
+                buffer.size(),
+                maxDepth.get(),
+                buffer.capacity());
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "change-feed-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * 남은 이벤트는 최대한 흘려보내고 멈춘다.
+     */
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(dispatcher);
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void dispatchLoop() {
+        List<ChangeEvent> batch = new ArrayList<>(batchSize);
+        long seenDropped = 0;
+        while (running || buffer.size() > 0) {
+            long droppedNow = dropped.get();
+            if (droppedNow != seenDropped) {
+                seenDropped = droppedNow;
+                listeners.forEach(this::notifyOverflow);
+            }
+
+            int drained = buffer.drainTo(batch, batchSize);
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+
+            List<ChangeEvent> view = Collections.unmodifiableList(batch);
+            for (ChangeFeedListener listener : listeners) {
+                deliver(listener, view);
+            }
+            delivered.addAndGet(drained);
+            batches.incrementAndGet();
+            maxBatchSize.accumulateAndGet(drained, Math::max);
+            batch.clear();
+        }
+    }
+
+    private void deliver(ChangeFeedListener listener, List<ChangeEvent> events) {
+        try {
+            listener.onChanges(events);
+        } catch (RuntimeException e) {
+            log.warn("change feed listener {} failed on {} events", listener, events.size(), e);
+        }
+    }
+
+    private void notifyBulk(ChangeFeedListener listener, ChangeEvent event) {
+        try {
+            listener.onBulkPublished(event);
+        } catch (RuntimeException e) {
+            log.warn("change feed listener {} failed on bulk {}", listener, event, e);
+        }
+    }
+
+    private void notifyOverflow(ChangeFeedListener listener) {
+        try {
+            listener.onOverflow();
+        } catch (RuntimeException e) {
+            log.warn("change feed listener {} failed on overflow", listener, e);
+        }
+    }
+}
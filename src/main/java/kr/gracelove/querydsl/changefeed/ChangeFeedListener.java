@@ -0,0 +1,43 @@
+package kr.gracelove.querydsl.changefeed;
+
+import java.util.List;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 체인지피드 구독자. 디스패처 스레드 하나에서 순서대로 호출되므로 오래 붙잡고 있으면 안된다.
+ */
+public interface ChangeFeedListener {
+
+    /**
+     * 한 트랜잭션의 이벤트는 그 안에서 flush 된 순서대로 붙어서 온다.
+     * 트랜잭션끼리는 커밋한 스레드가 각자 afterCommit 에서 보내므로 커밋 순서와 다르게 올 수 있다.
+     * 상태를 따라가는 구독자는 ChangeEvent#getVersion 으로 늦게 온 이벤트를 걸러야 한다. -> EntityVersions
+     *
+     * @param events 읽기전용.
+     */
+    void onChanges(List<ChangeEvent> events);
+
+    /**
+     * 벌크 이벤트는 디스패처를 기다리지 않고 보내는 스레드(커밋한 스레드의 afterCommit)에서 바로 알린다.
+     * 무엇이 바뀌었는지 모르는 구독자가 커밋 직후부터 낡은 상태를 쓰지 않게 표시해두는 용도다.
+     * 커밋한 스레드를 붙잡으므로 재구성 예약 정도만 하자. 같은 이벤트는 나중에 onChanges 로도 온다.
+     */
+    default void onBulkPublished(ChangeEvent event) {
+    }
+
+    /**
+     * 버퍼가 가득 차서 이벤트가 버려졌을 때 호출된다.
+     * 놓친 변경을 알 수 없으므로 구독자는 자기 상태 전체를 무효화해야 한다.
+     */
+    default void onOverflow() {
+    }
+}
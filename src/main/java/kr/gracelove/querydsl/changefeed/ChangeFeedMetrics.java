@@ -0,0 +1,34 @@
+package kr.gracelove.querydsl.changefeed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 체인지피드 스냅샷.
+ * dropped 가 늘어나거나 depth 가 capacity 에 붙어있으면 구독자가 못 따라오고 있는 것.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ChangeFeedMetrics {
+
+    private final long published;
+    private final long dropped;
+    private final long delivered;
+    private final long batches;
+    private final int maxBatchSize;
+    private final int depth;
+    private final int maxDepth;
+    private final int capacity;
+}
@@ -0,0 +1,168 @@
+package kr.gracelove.querydsl.changefeed;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * DB에서 한번 읽어 만든 메모리 스냅샷을 체인지피드로 따라가게 하는 도우미. (색인, 집계용 컬럼 등)
+ * <p>
+ * - 구독자의 onChanges 에서 apply(events) 를 부른다. 이미 반영한 것보다 오래된 이벤트는 EntityVersions 로 버린다.
+ * - 벌크연산이나 overflow 처럼 무엇이 바뀌었는지 모를 때는 scheduleRebuild(). 전용 스레드 하나에서 다시 만들고,
+ *   이미 예약된 재구성이 있으면 하나로 합친다.
+ * - DB를 읽는 동안 들어온 이벤트는 모아뒀다가 새 스냅샷에 다시 적용하고 바꿔 끼운다.
+ *   바꿔 끼우기 전까지는 기존 스냅샷으로 조회된다.
+ * <p>
+ * 조회는 current() 를 잠금 없이 읽으므로 스냅샷 자체가 읽기와 쓰기를 동시에 견뎌야 한다.
+ *
+ * @param <S> 스냅샷. toString() 은 재구성 로그에 찍힌다.
+ */
+@Slf4j
+public class ChangeFeedSnapshot<S> {
+
+    @FunctionalInterface
+    public interface Loader<S> {
+
+        /**
+         * DB에서 새 스냅샷을 읽는다. 읽은 행의 version 은 versions 에 seed 해둔다.
+         */
+        S load(EntityVersions versions);
+    }
+
+    @FunctionalInterface
+    public interface Applier<S> {
+
+        /**
+         * 잠금 안에서 한번에 하나씩 불린다.
+         */
+        void apply(S snapshot, ChangeEvent event);
+    }
+
+    private final String name;
+    private final Loader<S> loader;
+    private final Applier<S> applier;
+    private final ExecutorService rebuilder;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    private final Object lock = new Object();
+    private volatile S current;
+    private EntityVersions versions = new EntityVersions();
+    private boolean rebuilding;
+    private final List<ChangeEvent> replay = new ArrayList<>();
+    private volatile boolean ready;
+    private volatile boolean fresh;
+
+    /**
+     * @param name  재구성 스레드 이름과 로그에 쓴다.
+     * @param empty 처음 재구성이 끝나기 전까지 쓰는 빈 스냅샷
+     */
+    public ChangeFeedSnapshot(String name, S empty, Loader<S> loader, Applier<S> applier) {
+        this.name = name;
+        this.current = empty;
+        this.loader = loader;
+        this.applier = applier;
+        this.rebuilder = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, name + "-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public S current() {
+        return current;
+    }
+
+    /**
+     * 한번이라도 DB에서 읽어 만들었으면 true.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 다시 만들어야 하는데(scheduleRebuild) 아직 못 바꿔 끼웠으면 false.
+     */
+    public boolean isFresh() {
+        return fresh;
+    }
+
+    public void apply(List<ChangeEvent> events) {
+        synchronized (lock) {
+            for (ChangeEvent event : events) {
+                apply(current, versions, event);
+            }
+            if (rebuilding) {
+                replay.addAll(events);
+            }
+        }
+    }
+
+    private void apply(S snapshot, EntityVersions applied, ChangeEvent event) {
+        if (applied.advance(event)) {
+            applier.apply(snapshot, event);
+        }
+    }
+
+    public void scheduleRebuild() {
+        fresh = false;
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildPending.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("{} rebuild failed", name, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 부른 스레드에서 바로 다시 만든다.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (lock) {
+            rebuilding = true;
+            replay.clear();
+        }
+        try {
+            EntityVersions newVersions = new EntityVersions();
+            S snapshot = loader.load(newVersions);
+
+            synchronized (lock) {
+                for (ChangeEvent event : replay) {
+                    apply(snapshot, newVersions, event);
+                }
+                current = snapshot;
+                versions = newVersions;
+                ready = true;
+                fresh = !rebuildPending.get();
+            }
+            log.info("{} rebuilt : {} in {} ms", name, snapshot, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            synchronized (lock) {
+                rebuilding = false;
+                replay.clear();
+            }
+        }
+    }
+
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+}
@@ -0,0 +1,92 @@
+package kr.gracelove.querydsl.changefeed;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 고정 크기 lock-free 링버퍼. (생산자 여러개, 소비자 하나)
+ * 슬롯마다 시퀀스를 둬서 생산자끼리는 CAS 한번으로 자리를 잡고, 소비자는 시퀀스만 보고 읽는다.
+ * 가득 차면 기다리지 않고 false 를 돌려준다. 커밋 스레드를 막지 않기 위해서.
+ */
+class ChangeRingBuffer {
+
+    private final AtomicReferenceArray<ChangeEvent> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    ChangeRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2 : " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(ChangeEvent event) {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, event);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = head.get();
+            } else if (diff < 0) {
+                return false; // 한바퀴 돌았는데 소비자가 아직 안 비웠다 -> full
+            } else {
+                position = head.get(); // 다른 생산자가 먼저 가져감
+            }
+        }
+    }
+
+    /**
+     * 소비자 스레드 하나에서만 호출해야 한다.
+     */
+    int drainTo(List<ChangeEvent> sink, int maxElements) {
+        long position = tail.get();
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break; // 비었거나 생산자가 아직 쓰는 중
+            }
+            sink.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            drained++;
+            tail.lazySet(position);
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, head.get() - tail.get());
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,21 @@
+package kr.gracelove.querydsl.changefeed;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+public enum ChangeType {
+    INSERTED,
+    UPDATED,
+    DELETED,
+    /**
+     * 벌크연산. 영속성컨텍스트를 거치지 않으므로 개별 id 대신 where 조건만 알 수 있다.
+     */
+    BULK
+}
@@ -0,0 +1,56 @@
+package kr.gracelove.querydsl.changefeed;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 엔티티 id 마다 마지막으로 반영한 @Version.
+ * 트랜잭션마다 자기 afterCommit 에서 피드로 보내서 동시에 커밋한 트랜잭션끼리는 순서가 뒤바뀔 수 있다.
+ * 상태를 따라가는 구독자는 이걸로 이미 반영한 것보다 오래된 이벤트를 버린다.
+ * <p>
+ * 삭제는 version 을 안 올리므로 같은 version 의 수정보다 뒤로 친다.
+ * 삭제된 id 도 남겨둔다. (늦게 온 수정 이벤트가 지운 행을 되살리지 않게) 그래서 스냅샷을 다시 만들 때 같이 새로 만든다.
+ * 스레드 안전하지 않다. 구독자의 잠금 안에서 쓰자.
+ */
+public class EntityVersions {
+
+    private final Map<Class<?>, Map<Object, Long>> versions = new HashMap<>();
+
+    /**
+     * DB에서 읽은 행의 version. 스냅샷을 만들 때 넣는다.
+     */
+    public void seed(Class<?> entityType, Object id, Long version) {
+        if (version != null) {
+            versions.computeIfAbsent(entityType, type -> new HashMap<>()).put(id, version * 2);
+        }
+    }
+
+    /**
+     * 반영할 이벤트면 그 version 을 기록하고 true.
+     * version 이 없는 이벤트(버전 없는 엔티티, 벌크연산)는 항상 true.
+     */
+    public boolean advance(ChangeEvent event) {
+        Long version = event.getVersion();
+        if (version == null || event.getId() == null) {
+            return true;
+        }
+        long order = version * 2 + (event.getType() == ChangeType.DELETED ? 1 : 0);
+        Map<Object, Long> byId = versions.computeIfAbsent(event.getEntityType(), type -> new HashMap<>());
+        Long applied = byId.get(event.getId());
+        if (applied != null && applied >= order) {
+            return false;
+        }
+        byId.put(event.getId(), order);
+        return true;
+    }
+}
@@ -0,0 +1,133 @@
+package kr.gracelove.querydsl.changefeed;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * em.persist, 변경감지(dirty checking), remove 로 flush 된 변경을 잡아서 ChangeCapture 로 넘긴다.
+ * 벌크연산은 여기로 안 들어온다. -> ChangeCapture#bulk
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateChangeListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ChangeCapture changeCapture;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        EntityPersister persister = event.getPersister();
+        changeCapture.capture(ChangeEvent.inserted(
+                persister.getMappedClass(),
+                event.getId(),
+                version(persister, event.getState()),
+                snapshot(persister, event.getState(), event.getSession())));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        EntityPersister persister = event.getPersister();
+        changeCapture.capture(ChangeEvent.updated(
+                persister.getMappedClass(),
+                event.getId(),
+                version(persister, event.getState()),
+                snapshot(persister, event.getState(), event.getSession()),
+                snapshot(persister, event.getOldState(), event.getSession())));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        EntityPersister persister = event.getPersister();
+        changeCapture.capture(ChangeEvent.deleted(
+                persister.getMappedClass(),
+                event.getId(),
+                version(persister, event.getDeletedState()),
+                snapshot(persister, event.getDeletedState(), event.getSession())));
+    }
+
+    /**
+     * 커밋 전에 모아뒀다가 ChangeCapture 가 커밋 후에 보내므로 Hibernate 의 post-commit 처리는 필요없다.
+     */
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * 숫자 @Version 만. 구독자가 늦게 도착한 이벤트를 거르는 데 쓴다. -> EntityVersions
+     */
+    private static Long version(EntityPersister persister, Object[] values) {
+        if (values == null || !persister.isVersioned()) {
+            return null;
+        }
+        Object version = values[persister.getVersionProperty()];
+        return version instanceof Number ? ((Number) version).longValue() : null;
+    }
+
+    /**
+     * 컬렉션(mappedBy 쪽)은 빼고, 연관 엔티티는 id로 바꾼다.
+     * 구독자가 다른 스레드에서 읽기 때문에 엔티티 참조를 넘기면 안된다.
+     */
+    private static Map<String, Object> snapshot(EntityPersister persister, Object[] values,
+                                                SharedSessionContractImplementor session) {
+        if (values == null) {
+            return Collections.emptyMap();
+        }
+
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Map<String, Object> state = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (types[i].isCollectionType()) {
+                continue;
+            }
+            Object value = values[i];
+            if (types[i].isEntityType() && value != null) {
+                value = value instanceof HibernateProxy
+                        ? ((HibernateProxy) value).getHibernateLazyInitializer().getIdentifier()
+                        : session.getContextEntityIdentifier(value);
+            }
+            state.put(names[i], value);
+        }
+        return Collections.unmodifiableMap(state);
+    }
+}
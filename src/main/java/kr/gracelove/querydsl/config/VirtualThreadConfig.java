@@ -0,0 +1,77 @@
+package kr.gracelove.querydsl.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * threads.virtual.enabled=true 면 톰캣 요청과 MVC 비동기 처리(@Async, Callable)를 가상 스레드에서 돌린다.
+ * 컨트롤러에서 부르는 리포지토리, JDBC 호출도 그 가상 스레드에서 블로킹된다.
+ * <p>
+ * JDK 21 이상에서 띄워야 한다. (./gradlew bootRun -PvirtualThreads -Pjdk21Home=...)
+ * 동시 요청 수는 이제 스레드 수가 아니라 DB 가 제한하므로, DataSource 를 ConnectionLimitingDataSource 로 감싼다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("virtual-");
+
+    /**
+     * 톰캣은 넘겨받은 Executor 를 직접 닫지 않는다. 가상 스레드는 풀이 아니라서 따로 정리할 것도 없다.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("serving requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(executor);
+    }
+
+    /**
+     * @param maxConnections 0 이면 커넥션 풀(Hikari maximumPoolSize) 크기
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${threads.virtual.max-db-connections:0}") int maxConnections) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                HikariDataSource hikari = DataSourceUnwrapper.unwrap((DataSource) bean, HikariDataSource.class);
+                int limit = maxConnections > 0 ? maxConnections : hikari != null ? hikari.getMaximumPoolSize() : 10;
+                long timeoutMillis = hikari != null ? hikari.getConnectionTimeout() : 30_000;
+                log.info("limiting {} to {} concurrent connections", beanName, limit);
+                return new ConnectionLimitingDataSource((DataSource) bean, limit, timeoutMillis);
+            }
+        };
+    }
+}
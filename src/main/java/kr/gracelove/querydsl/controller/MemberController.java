@@ -0,0 +1,89 @@
+package kr.gracelove.querydsl.controller;
+
+import com.querydsl.core.QueryResults;
+import kr.gracelove.querydsl.admission.AdmissionControl;
+import kr.gracelove.querydsl.admission.AdmissionMetrics;
+import kr.gracelove.querydsl.admission.QueryClass;
+import kr.gracelove.querydsl.cache.MemberLookupCache;
+import kr.gracelove.querydsl.cache.MemberLookupCacheMetrics;
+import kr.gracelove.querydsl.dto.MemberDto;
+import kr.gracelove.querydsl.dto.MemberSearchCondition;
+import kr.gracelove.querydsl.repository.MemberRepository;
+import kr.gracelove.querydsl.search.MatchMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 조회는 전부 AdmissionControl 을 거친다. 자리가 없거나 시간이 다 되면 503.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberController {
+
+    private final MemberRepository memberRepository;
+    private final AdmissionControl admissionControl;
+    private final MemberLookupCache lookupCache;
+
+    /**
+     * 읽기 전용 트랜잭션이라 MemberLookupCache 에 있으면 DB 까지 안 간다.
+     */
+    @GetMapping("/members/lookup")
+    public ResponseEntity<MemberDto> findByUsername(@RequestParam String username) {
+        return admissionControl.execute(QueryClass.LOOKUP, () -> memberRepository.findByUsername(username))
+                .map(found -> ResponseEntity.ok(new MemberDto(found.getUsername(), found.getAge())))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * limit 은 100 까지만. offset 이 음수거나 limit 이 1 보다 작으면 400.
+     */
+    @GetMapping("/members")
+    public QueryResults<MemberDto> searchMembers(MemberSearchCondition condition,
+                                                 @RequestParam(defaultValue = "0") long offset,
+                                                 @RequestParam(defaultValue = "20") long limit) {
+        if (offset < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "offset must be >= 0 : " + offset);
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be >= 1 : " + limit);
+        }
+        return admissionControl.execute(QueryClass.PAGED,
+                () -> memberRepository.searchPage(condition, offset, Math.min(limit, 100)));
+    }
+
+    @GetMapping("/members/search")
+    public List<MemberDto> searchByUsername(@RequestParam String text,
+                                            @RequestParam(defaultValue = "CONTAINS") MatchMode mode) {
+        return admissionControl.execute(QueryClass.SEARCH, () -> memberRepository.searchByUsername(text, mode).stream()
+                .map(m -> new MemberDto(m.getUsername(), m.getAge()))
+                .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/members/admission")
+    public List<AdmissionMetrics> admission() {
+        return admissionControl.metrics();
+    }
+
+    @GetMapping("/members/cache")
+    public MemberLookupCacheMetrics cache() {
+        return lookupCache.metrics();
+    }
+}
@@ -12,6 +12,7 @@ import lombok.*;
  * @since : 2020/06/07
  */
 
+@Getter
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 @ToString
 public class MemberDto {
@@ -0,0 +1,36 @@
+package kr.gracelove.querydsl.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * username 으로 찾은 회원. 캐시에 들어가므로 불변.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class MemberLookupDto {
+
+    private final Long id;
+    private final String username;
+    private final int age;
+    private final Long teamId;
+
+    public MemberLookupDto(Long id, String username, int age, Long teamId) {
+        this.id = id;
+        this.username = username;
+        this.age = age;
+        this.teamId = teamId;
+    }
+}
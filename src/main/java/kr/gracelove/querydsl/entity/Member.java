@@ -4,8 +4,10 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.Hibernate;
 
 import javax.persistence.*;
+import java.util.List;
 
 /**
  * Created by GraceLove
@@ -33,6 +35,12 @@ public class Member {
     @JoinColumn(name = "team_id")
     private Team team;
 
+    /**
+     * 낙관적 락. 동시에 고치면 나중에 커밋하는 쪽이 OptimisticLockException. 벌크연산도 직접 올려준다.
+     */
+    @Version
+    private Long version;
+
 
     public Member(String username) {
         this(username, 0, null);
@@ -51,8 +59,22 @@ public class Member {
         }
     }
 
+    public void changeAge(int age) {
+        this.age = age;
+    }
+
+    /**
+     * 바이트코드 향상(association management)이 켜져 있으면 this.team 대입만으로
+     * 초기화된 team.members 에 이미 추가된다. 두번 들어가지 않게 확인하고 넣는다.
+     * 초기화 안된 컬렉션은 contains 하면 전부 로딩되므로 확인 없이 add 한다.
+     * mappedBy 쪽 bag 은 영속성컨텍스트에 붙어 있으면 add 를 로딩 없이 쌓아뒀다가 초기화할 때 합친다.
+     * (준영속 team 이면 LazyInitializationException)
+     */
     public void changeTeam(Team team) {
         this.team = team;
-        team.getMembers().add(this);
+        List<Member> members = team.getMembers();
+        if (!Hibernate.isInitialized(members) || !members.contains(this)) {
+            members.add(this);
+        }
     }
 }
@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.OptimisticLock;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -30,6 +31,13 @@ public class Team {
     private Long id;
     private String name;
 
+    @Version
+    private Long version;
+
+    /**
+     * 회원이 들어오고 나가도 팀 version 은 안 올린다. 인기 팀에 팀 이동이 몰려도 서로 충돌하지 않게.
+     */
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "team")
     private List<Member> members = new ArrayList<>();
 
@@ -0,0 +1,118 @@
+package kr.gracelove.querydsl.repository;
+
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.gracelove.querydsl.cache.MemberLookupCache;
+import kr.gracelove.querydsl.changefeed.ChangeCapture;
+import kr.gracelove.querydsl.dto.MemberDto;
+import kr.gracelove.querydsl.dto.MemberLookupDto;
+import kr.gracelove.querydsl.dto.MemberSearchCondition;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.search.MatchMode;
+import kr.gracelove.querydsl.search.MemberSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static kr.gracelove.querydsl.entity.QTeam.team;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+@Repository
+@RequiredArgsConstructor
+public class MemberRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final ReadOnlyQueryFactory readOnlyQueryFactory;
+    private final ChangeCapture changeCapture;
+    private final MemberSearchIndex searchIndex;
+    private final MemberLookupCache lookupCache;
+
+    /**
+     * MemberLookupCache 를 거친다. 트랜잭션 밖이나 읽기 전용 트랜잭션이면 캐시에서, 쓰기 트랜잭션이면 DB에서.
+     * 수정할 엔티티가 필요하면 id 로 em.find() 하자.
+     */
+    public Optional<MemberLookupDto> findByUsername(String username) {
+        return lookupCache.findByUsername(username);
+    }
+
+    /**
+     * username 을 색인으로 찾고(like 'text%', '%text%') id in (...) 한번으로 가져온다. 대소문자 무시.
+     */
+    @Transactional(readOnly = true)
+    public List<Member> searchByUsername(String text, MatchMode mode) {
+        return readOnlyQueryFactory
+                .selectFrom(member)
+                .where(searchIndex.usernameMatches(text, mode))
+                .orderBy(member.id.asc())
+                .fetch();
+    }
+
+    /**
+     * fetchResults() 라 count 쿼리가 한번 더 나간다. 조건에 색인이 없으면 둘 다 전체를 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public QueryResults<MemberDto> searchPage(MemberSearchCondition condition, long offset, long limit) {
+        return readOnlyQueryFactory
+                .select(Projections.constructor(MemberDto.class, member.username, member.age))
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(usernameEq(condition.getUsername()),
+                        teamNameEq(condition.getTeamName()),
+                        ageGoe(condition.getAgeGoe()),
+                        ageLoe(condition.getAgeLoe()))
+                .orderBy(member.id.asc())
+                .offset(offset)
+                .limit(limit)
+                .fetchResults();
+    }
+
+    /**
+     * 벌크연산은 영속성컨텍스트도, 엔티티 이벤트도 건너뛴다.
+     * 그래서 where 조건을 체인지피드에 직접 남긴다. 호출한 쪽은 끝나고 em.clear() 해줘야 한다.
+     * version 도 직접 올려서 벌크연산 전에 읽어둔 엔티티로 덮어쓰지 못하게 한다.
+     */
+    @Transactional
+    public long bulkUpdateUsername(String username, int ageLessThan) {
+        BooleanExpression where = member.age.lt(ageLessThan);
+        long updated = queryFactory
+                .update(member)
+                .set(member.username, username)
+                .set(member.version, member.version.add(1L))
+                .where(where)
+                .execute();
+
+        changeCapture.bulk(Member.class, where);
+        return updated;
+    }
+
+    private BooleanExpression usernameEq(String username) {
+        return username != null ? member.username.eq(username) : null;
+    }
+
+    private BooleanExpression teamNameEq(String teamName) {
+        return teamName != null ? team.name.eq(teamName) : null;
+    }
+
+    private BooleanExpression ageGoe(Integer ageGoe) {
+        return ageGoe != null ? member.age.goe(ageGoe) : null;
+    }
+
+    private BooleanExpression ageLoe(Integer ageLoe) {
+        return ageLoe != null ? member.age.loe(ageLoe) : null;
+    }
+}
@@ -0,0 +1,58 @@
+package kr.gracelove.querydsl.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.AbstractJPAQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.FlushMode;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.stereotype.Component;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 조회 전용 쿼리. 여기서 읽은 엔티티는 스냅샷을 안 만들고 변경감지 대상에서도 빠진다.
+ * 값을 바꿔도 DB에 반영 안되니 수정할 엔티티는 JPAQueryFactory 로 읽자.
+ * <p>
+ * 트랜잭션 전체가 조회라면 @Transactional(readOnly = true) 를 쓰자.
+ * 스프링이 세션을 read-only 로 열고 FlushMode.MANUAL 로 바꿔준다. (HibernateJpaDialect)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadOnlyQueryFactory {
+
+    private final JPAQueryFactory queryFactory;
+
+    public <T> JPAQuery<T> select(Expression<T> expr) {
+        return readOnly(queryFactory.select(expr));
+    }
+
+    public JPAQuery<Tuple> select(Expression<?>... exprs) {
+        return readOnly(queryFactory.select(exprs));
+    }
+
+    public <T> JPAQuery<T> selectFrom(EntityPath<T> from) {
+        return readOnly(queryFactory.selectFrom(from));
+    }
+
+    /**
+     * 이미 만든 쿼리에 read-only 힌트를 건다.
+     * 쿼리 실행 전에 자동 flush 도 안 하므로, 같은 트랜잭션에서 바꾼 값은 먼저 em.flush() 해야 보인다.
+     */
+    public static <Q extends AbstractJPAQuery<?, ?>> Q readOnly(Q query) {
+        query.setHint(QueryHints.READ_ONLY, true);
+        query.setHint(QueryHints.FLUSH_MODE, FlushMode.MANUAL);
+        return query;
+    }
+}
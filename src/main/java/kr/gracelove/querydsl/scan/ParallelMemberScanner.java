@@ -0,0 +1,313 @@
+package kr.gracelove.querydsl.scan;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 회원 전체를 읽는 리포트용 병렬 스캔. selectFrom(member).fetch() 대신.
+ * <p>
+ * - member_id 의 min ~ max 를 (parallelism * ranges-per-thread) 개 범위로 나눈다.
+ *   id 가 비어있는 구간이 있어도 범위가 잘게 나뉘어 있으니 스레드끼리 일이 고르게 돌아간다.
+ * - 범위마다 자기 EntityManager(=커넥션) 에서 같은 조건, 같은 프로젝션으로 id 키셋 페이징을 한다.
+ *   페이지마다 clear() 하므로 메모리는 페이지 크기 만큼만 쓴다.
+ * - 스레드 수(=동시에 쓰는 커넥션 수)는 고정이다. 기본은 코어 수와 커넥션 풀 절반 중 작은 쪽.
+ * - 읽은 페이지는 제한된 큐로 넘어오고 consumer 는 scan 을 부른 스레드에서 돈다. consumer 는 스레드 안전하지 않아도 된다.
+ * <p>
+ * 엔티티를 프로젝션하면 준영속으로 넘어오므로 지연로딩은 안 된다.
+ * member.team.name 같은 경로는 inner join 이 되어 팀 없는 회원은 빠진다.
+ */
+@Slf4j
+@Component
+public class ParallelMemberScanner {
+
+    private final EntityManagerFactory emf;
+    private final int parallelism;
+    private final int pageSize;
+    private final int rangesPerThread;
+    private final int queuePages;
+    private final ExecutorService executor;
+
+    public ParallelMemberScanner(EntityManagerFactory emf,
+                                 DataSource dataSource,
+                                 @Value("${scan.parallelism:0}") int parallelism,
+                                 @Value("${scan.page-size:1000}") int pageSize,
+                                 @Value("${scan.ranges-per-thread:4}") int rangesPerThread,
+                                 @Value("${scan.queue-pages:4}") int queuePages) {
+        this.emf = emf;
+        this.parallelism = parallelism > 0 ? parallelism : defaultParallelism(dataSource);
+        this.pageSize = pageSize;
+        this.rangesPerThread = rangesPerThread;
+        this.queuePages = queuePages;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism, task -> {
+            Thread thread = new Thread(task, "member-scan-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("member scan parallelism : {}", this.parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param where      null 이면 전체
+     * @param consumer   예외를 던지면 스캔을 멈추고 그 예외를 그대로 던진다.
+     */
+    public <T> ScanResult scan(Expression<T> projection, Predicate where, ScanOrder order, Consumer<? super T> consumer) {
+        long start = System.nanoTime();
+        List<IdRange> ranges = split();
+        long rows = 0;
+        if (!ranges.isEmpty()) {
+            Scan<T> scan = new Scan<>(projection, where, order, ranges.size());
+            try {
+                for (int i = 0; i < ranges.size(); i++) {
+                    int partition = i;
+                    IdRange range = ranges.get(i);
+                    executor.execute(() -> scan.run(partition, range));
+                }
+                rows = scan.deliver(consumer);
+            } finally {
+                scan.cancel();
+            }
+        }
+        return new ScanResult(rows, ranges.size(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private List<IdRange> split() {
+        Tuple bounds;
+        EntityManager em = emf.createEntityManager();
+        try {
+            bounds = new JPAQueryFactory(em)
+                    .select(member.id.min(), member.id.max())
+                    .from(member)
+                    .fetchOne();
+        } finally {
+            em.close();
+        }
+        Long min = bounds.get(member.id.min());
+        Long max = bounds.get(member.id.max());
+        if (min == null) {
+            return Collections.emptyList();
+        }
+
+        long count = Math.max(1, Math.min((long) parallelism * rangesPerThread, max - min + 1));
+        long step = (max - min) / count + 1;
+        List<IdRange> ranges = new ArrayList<>();
+        for (long from = min; from <= max; from += step) {
+            ranges.add(new IdRange(from, Math.min(max, from + step - 1)));
+        }
+        return ranges;
+    }
+
+    private static int defaultParallelism(DataSource dataSource) {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        int poolSize = hikari != null ? hikari.getMaximumPoolSize() : 10;
+        return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), poolSize / 2));
+    }
+
+    private static class IdRange {
+
+        private final long from;
+        private final long to;
+
+        IdRange(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private static class Page<T> {
+
+        private final List<T> rows;
+        private final boolean last;
+        private final RuntimeException error;
+
+        Page(List<T> rows, boolean last, RuntimeException error) {
+            this.rows = rows;
+            this.last = last;
+            this.error = error;
+        }
+    }
+
+    /**
+     * 스캔 한번. ORDERED 면 범위마다 큐를 따로 두고 0번 범위부터 차례로 비운다.
+     * 범위는 0번부터 순서대로 스레드에 들어가므로 지금 비우는 범위는 항상 이미 읽히고 있다. (큐가 차서 서로 기다리지 않는다)
+     */
+    private class Scan<T> {
+
+        private final Expression<T> projection;
+        private final Predicate where;
+        private final ScanOrder order;
+        private final List<BlockingQueue<Page<T>>> queues;
+        private volatile boolean cancelled;
+
+        Scan(Expression<T> projection, Predicate where, ScanOrder order, int partitions) {
+            this.projection = projection;
+            this.where = where;
+            this.order = order;
+            this.queues = new ArrayList<>(partitions);
+            if (order == ScanOrder.ORDERED) {
+                for (int i = 0; i < partitions; i++) {
+                    queues.add(new ArrayBlockingQueue<>(queuePages));
+                }
+            } else {
+                BlockingQueue<Page<T>> shared = new ArrayBlockingQueue<>(queuePages * parallelism);
+                for (int i = 0; i < partitions; i++) {
+                    queues.add(shared);
+                }
+            }
+        }
+
+        void run(int partition, IdRange range) {
+            BlockingQueue<Page<T>> queue = queues.get(partition);
+            try {
+                readRange(range, queue);
+                put(queue, new Page<>(Collections.emptyList(), true, null));
+            } catch (CancellationException e) {
+                // 받는 쪽이 그만뒀다.
+            } catch (RuntimeException e) {
+                if (!cancelled) {
+                    try {
+                        put(queue, new Page<>(Collections.emptyList(), true, e));
+                    } catch (CancellationException ignored) {
+                    }
+                }
+            }
+        }
+
+        private void readRange(IdRange range, BlockingQueue<Page<T>> queue) {
+            EntityManager em = emf.createEntityManager();
+            try {
+                em.unwrap(Session.class).setDefaultReadOnly(true);
+                em.getTransaction().begin(); // 범위 하나 = 커넥션 하나
+                JPAQueryFactory queryFactory = new JPAQueryFactory(em);
+                long after = range.from - 1;
+                while (!cancelled) {
+                    List<Tuple> tuples = queryFactory
+                            .select(member.id, projection)
+                            .from(member)
+                            .where(member.id.gt(after), member.id.loe(range.to), where)
+                            .orderBy(member.id.asc())
+                            .limit(pageSize)
+                            .fetch();
+                    if (tuples.isEmpty()) {
+                        return;
+                    }
+                    List<T> rows = new ArrayList<>(tuples.size());
+                    for (Tuple tuple : tuples) {
+                        rows.add(tuple.get(projection));
+                    }
+                    after = tuples.get(tuples.size() - 1).get(member.id);
+                    em.clear();
+                    put(queue, new Page<>(rows, false, null));
+                    if (tuples.size() < pageSize) {
+                        return;
+                    }
+                }
+            } finally {
+                if (em.getTransaction().isActive()) {
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+        }
+
+        long deliver(Consumer<? super T> consumer) {
+            if (order == ScanOrder.UNORDERED) {
+                return drain(queues.get(0), queues.size(), consumer);
+            }
+            long rows = 0;
+            for (BlockingQueue<Page<T>> queue : queues) {
+                rows += drain(queue, 1, consumer);
+            }
+            return rows;
+        }
+
+        private long drain(BlockingQueue<Page<T>> queue, int partitions, Consumer<? super T> consumer) {
+            long rows = 0;
+            int finished = 0;
+            while (finished < partitions) {
+                Page<T> page = take(queue);
+                if (page.error != null) {
+                    throw page.error;
+                }
+                page.rows.forEach(consumer);
+                rows += page.rows.size();
+                if (page.last) {
+                    finished++;
+                }
+            }
+            return rows;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        private Page<T> take(BlockingQueue<Page<T>> queue) {
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("member scan interrupted", e);
+            }
+        }
+
+        private void put(BlockingQueue<Page<T>> queue, Page<T> page) {
+            try {
+                while (!queue.offer(page, 100, TimeUnit.MILLISECONDS)) {
+                    if (cancelled) {
+                        throw new CancellationException();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+    }
+}
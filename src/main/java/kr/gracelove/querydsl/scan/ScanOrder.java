@@ -0,0 +1,19 @@
+package kr.gracelove.querydsl.scan;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * ORDERED : member_id 오름차순. 앞 범위가 느리면 뒤 범위는 큐가 차서 기다린다.
+ * UNORDERED : 먼저 읽힌 페이지부터. 범위 안에서는 id 순서.
+ */
+public enum ScanOrder {
+    ORDERED, UNORDERED
+}
@@ -0,0 +1,34 @@
+package kr.gracelove.querydsl.scan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+@Getter
+@RequiredArgsConstructor
+public class ScanResult {
+
+    private final long rows;
+    private final int ranges;
+    private final Duration elapsed;
+
+    public double getRowsPerSecond() {
+        return rows * 1_000_000_000.0 / Math.max(1, elapsed.toNanos());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows from %d ranges in %d ms (%.0f rows/s)", rows, ranges, elapsed.toMillis(), getRowsPerSecond());
+    }
+}
@@ -0,0 +1,25 @@
+package kr.gracelove.querydsl.search;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 대소문자 무시.
+ */
+public enum MatchMode {
+    /**
+     * like 'foo%'
+     */
+    PREFIX,
+    /**
+     * like '%foo%'
+     */
+    CONTAINS
+}
@@ -0,0 +1,204 @@
+package kr.gracelove.querydsl.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import kr.gracelove.querydsl.changefeed.ChangeEvent;
+import kr.gracelove.querydsl.changefeed.ChangeFeed;
+import kr.gracelove.querydsl.changefeed.ChangeFeedListener;
+import kr.gracelove.querydsl.changefeed.ChangeFeedSnapshot;
+import kr.gracelove.querydsl.changefeed.EntityVersions;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import kr.gracelove.querydsl.repository.ReadOnlyQueryFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static kr.gracelove.querydsl.entity.QTeam.team;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * Member.username, Team.name 의 n-gram 색인.
+ * 기동할 때 DB에서 한번 채우고, 이후로는 체인지피드로 따라간다.
+ * 벌크연산이나 피드 overflow 가 오면 어떤 행이 바뀌었는지 모르니 통째로 다시 만든다. -> ChangeFeedSnapshot
+ * <p>
+ * 색인은 id 만 돌려준다. 엔티티는 usernameMatches() 같은 조건으로 한번에 조회하자.
+ * <pre>
+ * queryFactory.selectFrom(member)
+ *         .where(searchIndex.usernameMatches("mem", MatchMode.CONTAINS))
+ *         .fetch();
+ * </pre>
+ */
+@Component
+public class MemberSearchIndex implements ChangeFeedListener {
+
+    private final ChangeFeed changeFeed;
+    private final ReadOnlyQueryFactory queryFactory;
+    private final int maxInList;
+    private final ChangeFeedSnapshot<Indexes> snapshot;
+
+    public MemberSearchIndex(ChangeFeed changeFeed,
+                             ReadOnlyQueryFactory queryFactory,
+                             @Value("${search.max-in-list:1000}") int maxInList) {
+        this.changeFeed = changeFeed;
+        this.queryFactory = queryFactory;
+        this.maxInList = maxInList;
+        this.snapshot = new ChangeFeedSnapshot<>("member-search", new Indexes(), this::load, this::apply);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        changeFeed.subscribe(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        changeFeed.unsubscribe(this);
+        snapshot.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        snapshot.scheduleRebuild();
+    }
+
+    public boolean isReady() {
+        return snapshot.isReady();
+    }
+
+    public boolean isFresh() {
+        return snapshot.isFresh();
+    }
+
+    /**
+     * 일치하는 id 전부. 오름차순.
+     */
+    public List<Long> searchMemberIds(String text, MatchMode mode) {
+        return snapshot.current().usernames.search(text, mode, Integer.MAX_VALUE);
+    }
+
+    public List<Long> searchTeamIds(String text, MatchMode mode) {
+        return snapshot.current().teamNames.search(text, mode, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 색인에서 찾은 id in (...) 에 like 조건을 항상 같이 건다. 색인이 피드보다 늦어도 일치하지 않는 행은 안 나온다.
+     * 색인을 아직 못 만들었거나 다시 만드는 중이면 (벌크연산 직후 등, isFresh false) 색인에 없는 행을 놓치므로 like 조건만 쓴다.
+     * 찾은 id 가 search.max-in-list 개를 넘어도 like 조건만 쓴다. 어느 쪽이든 결과를 자르지 않는다.
+     */
+    public BooleanExpression usernameMatches(String text, MatchMode mode) {
+        BooleanExpression like = mode == MatchMode.PREFIX
+                ? member.username.startsWithIgnoreCase(text)
+                : member.username.containsIgnoreCase(text);
+        if (!snapshot.isFresh()) {
+            return like;
+        }
+        return idIn(snapshot.current().usernames.search(text, mode, maxInList + 1), member.id, like);
+    }
+
+    public BooleanExpression teamNameMatches(String text, MatchMode mode) {
+        BooleanExpression like = mode == MatchMode.PREFIX
+                ? team.name.startsWithIgnoreCase(text)
+                : team.name.containsIgnoreCase(text);
+        if (!snapshot.isFresh()) {
+            return like;
+        }
+        return idIn(snapshot.current().teamNames.search(text, mode, maxInList + 1), team.id, like);
+    }
+
+    private BooleanExpression idIn(List<Long> ids, NumberPath<Long> id, BooleanExpression like) {
+        if (ids.isEmpty()) {
+            return id.isNull(); // id 는 null 일 수 없으니 항상 거짓.
+        }
+        return ids.size() > maxInList ? like : id.in(ids).and(like);
+    }
+
+    @Override
+    public void onChanges(List<ChangeEvent> events) {
+        snapshot.apply(events);
+    }
+
+    /**
+     * 커밋한 스레드에서 바로 재구성을 예약한다. 이때부터 isFresh 가 false 라 조회는 like 로 간다.
+     */
+    @Override
+    public void onBulkPublished(ChangeEvent event) {
+        if (event.concerns(Member.class) || event.concerns(Team.class)) {
+            snapshot.scheduleRebuild();
+        }
+    }
+
+    @Override
+    public void onOverflow() {
+        snapshot.scheduleRebuild();
+    }
+
+    public void rebuild() {
+        snapshot.rebuild();
+    }
+
+    private void apply(Indexes indexes, ChangeEvent event) {
+        if (event.concerns(Member.class)) {
+            apply(indexes.usernames, event, "username");
+        } else if (event.concerns(Team.class)) {
+            apply(indexes.teamNames, event, "name");
+        }
+    }
+
+    private void apply(NgramIndex index, ChangeEvent event, String property) {
+        switch (event.getType()) {
+            case INSERTED:
+            case UPDATED:
+                index.put((Long) event.getId(), (String) event.getState().get(property));
+                break;
+            case DELETED:
+                index.remove((Long) event.getId());
+                break;
+            case BULK:
+                break; // onBulkPublished 에서 이미 재구성을 예약했다.
+        }
+    }
+
+    private Indexes load(EntityVersions versions) {
+        List<Tuple> members = queryFactory.select(member.id, member.username, member.version).from(member).fetch();
+        List<Tuple> teams = queryFactory.select(team.id, team.name, team.version).from(team).fetch();
+
+        Indexes indexes = new Indexes();
+        members.forEach(row -> {
+            indexes.usernames.put(row.get(member.id), row.get(member.username));
+            versions.seed(Member.class, row.get(member.id), row.get(member.version));
+        });
+        teams.forEach(row -> {
+            indexes.teamNames.put(row.get(team.id), row.get(team.name));
+            versions.seed(Team.class, row.get(team.id), row.get(team.version));
+        });
+        return indexes;
+    }
+
+    private static class Indexes {
+
+        private final NgramIndex usernames = new NgramIndex();
+        private final NgramIndex teamNames = new NgramIndex();
+
+        @Override
+        public String toString() {
+            return usernames.size() + " members, " + teamNames.size() + " teams";
+        }
+    }
+}
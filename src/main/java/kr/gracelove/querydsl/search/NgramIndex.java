@@ -0,0 +1,125 @@
+package kr.gracelove.querydsl.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 메모리 n-gram 색인. 문자열의 1~3글자 조각마다 id 집합을 둔다.
+ * <p>
+ * 검색어가 3글자 이하면 조각 하나로 바로 찾고, 길면 3글자 조각 중 가장 작은 집합만 후보로 잡은 뒤
+ * 원문과 비교해서 거른다. 그래서 결과는 like 와 똑같다. (false positive 없음)
+ * 쓰기는 한 번에 하나씩, 읽기는 잠금 없이.
+ */
+class NgramIndex {
+
+    static final int MAX_GRAM = 3;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, String> documents = new ConcurrentHashMap<>();
+
+    synchronized void put(Long id, String text) {
+        remove(id);
+        if (text == null) {
+            return;
+        }
+        String normalized = normalize(text);
+        documents.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    synchronized void remove(Long id) {
+        String old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String gram : grams(old)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    synchronized void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    /**
+     * @return 일치하는 id 오름차순. 최대 limit 개.
+     */
+    List<Long> search(String query, MatchMode mode, int limit) {
+        String normalized = normalize(query);
+        Set<Long> candidates = normalized.isEmpty() ? documents.keySet() : candidates(normalized);
+
+        List<Long> result = new ArrayList<>();
+        for (Long id : candidates) {
+            String document = documents.get(id);
+            if (document != null && matches(document, normalized, mode)) {
+                result.add(id);
+            }
+        }
+        Collections.sort(result);
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    private Set<Long> candidates(String query) {
+        if (query.length() <= MAX_GRAM) {
+            return postings.getOrDefault(query, Collections.emptySet());
+        }
+        Set<Long> smallest = null;
+        for (int i = 0; i + MAX_GRAM <= query.length(); i++) {
+            Set<Long> ids = postings.get(query.substring(i, i + MAX_GRAM));
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        return smallest;
+    }
+
+    private static boolean matches(String document, String query, MatchMode mode) {
+        return mode == MatchMode.PREFIX ? document.startsWith(query) : document.contains(query);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= MAX_GRAM; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,60 @@
+package kr.gracelove.querydsl.service;
+
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
+import javax.persistence.PersistenceContext;
+import java.util.function.Consumer;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 회원 수정. 시도마다 새 트랜잭션에서 다시 읽고 고치고 커밋한다.
+ * 다른 쪽이 먼저 커밋했으면 version 이 안 맞아서 실패하고, OptimisticRetry 가 처음부터 다시 한다.
+ * 비관적 락(select for update)을 안 쓰므로 인기 팀으로 이동이 몰려도 줄을 서지 않는다.
+ */
+@Service
+public class MemberService {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticRetry retry;
+
+    public MemberService(PlatformTransactionManager transactionManager, OptimisticRetry retry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retry = retry;
+    }
+
+    public void changeTeam(Long memberId, Long teamId) {
+        update(memberId, member -> member.changeTeam(em.getReference(Team.class, teamId)));
+    }
+
+    /**
+     * change 는 충돌하면 여러 번 불릴 수 있다. 매번 새로 읽은 member 를 받는다.
+     */
+    public void update(Long memberId, Consumer<Member> change) {
+        retry.execute(() -> transactionTemplate.execute(status -> {
+            Member member = em.find(Member.class, memberId);
+            if (member == null) {
+                throw new EntityNotFoundException("member " + memberId);
+            }
+            change.accept(member);
+            return null;
+        }));
+    }
+}
@@ -0,0 +1,90 @@
+package kr.gracelove.querydsl.shard;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import org.springframework.beans.NullValueInNestedPathException;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * orderBy 에 넘긴 OrderSpecifier 를 샤드별 결과를 합칠 때 쓸 Comparator 로 바꾼다.
+ * DB 와 같은 순서가 나와야 하므로
+ * - member.xxx, member.team.xxx, team.xxx (QTeam.team 별칭) 같은 경로만 된다.
+ * - nulls first/last 를 안 정하면 H2 기본값처럼 null 이 가장 작은 값이다. (asc 면 앞, desc 면 뒤)
+ * - 문자열은 String.compareTo 순서. DB collation 이 다르면 안 맞는다.
+ */
+final class MemberOrdering {
+
+    private MemberOrdering() {
+    }
+
+    static Comparator<Member> comparator(OrderSpecifier<?>... orders) {
+        Comparator<Member> result = null;
+        for (OrderSpecifier<?> order : orders) {
+            Comparator<Member> next = comparator(order);
+            result = result == null ? next : result.thenComparing(next);
+        }
+        if (result == null) {
+            throw new IllegalArgumentException("at least one order is required");
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Member> comparator(OrderSpecifier<?> order) {
+        String property = propertyOf(order.getTarget());
+        Comparator<Comparable> values = Comparator.naturalOrder();
+        if (!order.isAscending()) {
+            values = values.reversed();
+        }
+        boolean nullsFirst = order.getNullHandling() == OrderSpecifier.NullHandling.NullsFirst
+                || (order.getNullHandling() == OrderSpecifier.NullHandling.Default && order.isAscending());
+        Comparator<Comparable> withNulls = nullsFirst ? Comparator.nullsFirst(values) : Comparator.nullsLast(values);
+        return Comparator.comparing(m -> (Comparable) valueOf(m, property), withNulls);
+    }
+
+    private static Object valueOf(Member member, String property) {
+        try {
+            return PropertyAccessorFactory.forBeanPropertyAccess(member).getPropertyValue(property);
+        } catch (NullValueInNestedPathException e) {
+            return null; // 팀 없는 회원의 team.name
+        }
+    }
+
+    private static String propertyOf(Expression<?> target) {
+        if (!(target instanceof Path)) {
+            throw new IllegalArgumentException("only path can be merged across shards : " + target);
+        }
+        Path<?> path = (Path<?>) target;
+        Deque<String> names = new ArrayDeque<>();
+        while (path.getMetadata().getParent() != null) {
+            names.addFirst(path.getMetadata().getName());
+            path = path.getMetadata().getParent();
+        }
+        if (path.getType() == Team.class) {
+            names.addFirst("team");
+        } else if (path.getType() != Member.class) {
+            throw new IllegalArgumentException("order must start from member or team : " + target);
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("order by entity is not supported : " + target);
+        }
+        return String.join(".", names);
+    }
+}
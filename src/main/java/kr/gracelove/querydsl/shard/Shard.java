@@ -0,0 +1,157 @@
+package kr.gracelove.querydsl.shard;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.zaxxer.hikari.HikariDataSource;
+import kr.gracelove.querydsl.entity.Member;
+import org.hibernate.Session;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * DB 하나 = 샤드 하나. 커넥션풀과 EntityManagerFactory 를 따로 가진다.
+ * <p>
+ * EntityManagerFactory 를 빈으로 올리면 스프링부트의 기본 JPA 설정이 물러나므로 빈이 아니라 여기서 직접 만들고 닫는다.
+ * 그래서 샤드에서 일어난 변경은 HibernateChangeListener(체인지피드)에 안 잡힌다.
+ */
+public class Shard implements AutoCloseable {
+
+    private final int index;
+    private final HikariDataSource dataSource;
+    private final EntityManagerFactory emf;
+
+    private Shard(int index, HikariDataSource dataSource, EntityManagerFactory emf) {
+        this.index = index;
+        this.dataSource = dataSource;
+        this.emf = emf;
+    }
+
+    public static Shard open(int index, String url, String username, String password, int maximumPoolSize, String ddlAuto) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + index);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        try {
+            EntityManagerFactory emf = createEntityManagerFactory(index, dataSource, ddlAuto);
+            allocateIdBlock(index, dataSource);
+            return new Shard(index, dataSource, emf);
+        } catch (RuntimeException e) {
+            dataSource.close();
+            throw e;
+        }
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * 읽기 전용. 엔티티는 EntityManager 가 닫힌 뒤에 돌려주므로 준영속이다. 필요한 연관은 fetchJoin 으로.
+     */
+    public <T> T query(Function<JPAQueryFactory, T> work) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.unwrap(Session.class).setDefaultReadOnly(true);
+            return work.apply(new JPAQueryFactory(em));
+        } finally {
+            em.close();
+        }
+    }
+
+    public <T> T inTransaction(Function<EntityManager, T> work) {
+        EntityManager em = emf.createEntityManager();
+        EntityTransaction tx = em.getTransaction();
+        try {
+            tx.begin();
+            T result = work.apply(em);
+            tx.commit();
+            return result;
+        } catch (RuntimeException e) {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        } finally {
+            em.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            emf.close();
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    /**
+     * 기본 설정과 같은 네이밍 전략을 써서 테이블, 컬럼 이름을 맞춘다.
+     */
+    private static EntityManagerFactory createEntityManagerFactory(int index, DataSource dataSource, String ddlAuto) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.hbm2ddl.auto", ddlAuto);
+        properties.put("hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName());
+        properties.put("hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName());
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setPersistenceUnitName("shard-" + index);
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(Member.class.getPackage().getName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(properties);
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    /**
+     * IDENTITY 를 이 샤드의 id 블록 안으로 옮긴다. 이미 행이 있으면 그 다음부터. (H2 문법)
+     */
+    private static void allocateIdBlock(int index, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            restartIdentity(statement, index, "team", "team_id");
+            restartIdentity(statement, index, "member", "member_id");
+        } catch (SQLException e) {
+            throw new IllegalStateException("cannot allocate id block for shard " + index, e);
+        }
+    }
+
+    private static void restartIdentity(Statement statement, int index, String table, String column) throws SQLException {
+        long next = ShardMap.firstId(index);
+        try (ResultSet rs = statement.executeQuery("select max(" + column + ") from " + table)) {
+            rs.next();
+            long max = rs.getLong(1);
+            if (max > ShardMap.lastId(index)) {
+                throw new IllegalStateException(table + "." + column + " " + max + " is out of id block of shard " + index);
+            }
+            next = Math.max(next, max + 1);
+        }
+        statement.execute("alter table " + table + " alter column " + column + " restart with " + next);
+    }
+}
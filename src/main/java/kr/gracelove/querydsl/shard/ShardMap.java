@@ -0,0 +1,62 @@
+package kr.gracelove.querydsl.shard;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * team_id -> 샤드.
+ * 샤드마다 IDENTITY 시작값을 ID_BLOCK 단위로 떼어주기 때문에 id 만 보고 어느 샤드인지 안다.
+ * (0번 샤드 : 1 ~ 2^40, 1번 샤드 : 2^40 + 1 ~ 2^41, ...) member_id 도 같은 방식이라 샤드끼리 id 가 안 겹친다.
+ * <p>
+ * 새 팀은 샤드를 돌아가면서 배정한다. 팀이 없는 회원은 0번 샤드.
+ */
+public class ShardMap {
+
+    public static final long ID_BLOCK = 1L << 40;
+
+    private final int shardCount;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    public ShardMap(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be positive : " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(Long teamId) {
+        if (teamId == null) {
+            return 0;
+        }
+        long shard = (teamId - 1) / ID_BLOCK;
+        if (teamId < 1 || shard >= shardCount) {
+            throw new IllegalArgumentException("team id " + teamId + " does not belong to any of " + shardCount + " shards");
+        }
+        return (int) shard;
+    }
+
+    public int shardForNewTeam() {
+        return Math.floorMod(nextShard.getAndIncrement(), shardCount);
+    }
+
+    static long firstId(int shard) {
+        return shard * ID_BLOCK + 1;
+    }
+
+    static long lastId(int shard) {
+        return (shard + 1) * ID_BLOCK;
+    }
+}
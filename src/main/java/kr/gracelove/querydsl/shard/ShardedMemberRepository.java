@@ -0,0 +1,241 @@
+package kr.gracelove.querydsl.shard;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.gracelove.querydsl.analytics.AgeStats;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static kr.gracelove.querydsl.analytics.AgeStats.AGE_SUM;
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static kr.gracelove.querydsl.entity.QTeam.team;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * team_id 로 샤딩된 회원 저장소. 회원은 팀이 있는 샤드에 같이 둔다.
+ * <p>
+ * - 팀 하나만 보는 조회는 그 팀의 샤드로만 간다.
+ * - 팀을 가로지르는 조회는 모든 샤드에 병렬로 던지고(scatter) 합친다(gather).
+ *   count 는 더하고, 평균은 샤드별 평균이 아니라 count, sum 을 합쳐서 다시 나눈다.
+ *   페이징은 샤드마다 offset + limit 개를 정렬해서 받아 k-way merge 한 뒤 offset 만큼 버린다.
+ * <p>
+ * 돌려주는 엔티티는 준영속이다. 팀은 fetchJoin 으로 같이 가져온다.
+ */
+@Slf4j
+public class ShardedMemberRepository implements AutoCloseable {
+
+    private final List<Shard> shards;
+    private final ShardMap shardMap;
+    private final ExecutorService executor;
+
+    public ShardedMemberRepository(List<Shard> shards) {
+        this.shards = List.copyOf(shards);
+        this.shardMap = new ShardMap(shards.size());
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(shards.size(), r -> {
+            Thread thread = new Thread(r, "shard-query-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ShardMap getShardMap() {
+        return shardMap;
+    }
+
+    public Team createTeam(String name) {
+        return shards.get(shardMap.shardForNewTeam()).inTransaction(em -> {
+            Team newTeam = new Team(name);
+            em.persist(newTeam);
+            return newTeam;
+        });
+    }
+
+    /**
+     * teamId 가 null 이면 0번 샤드.
+     */
+    public Member createMember(String username, int age, Long teamId) {
+        return shardOf(teamId).inTransaction(em -> {
+            Team memberTeam = teamId == null ? null : em.getReference(Team.class, teamId);
+            Member newMember = new Member(username, age, memberTeam);
+            em.persist(newMember);
+            return newMember;
+        });
+    }
+
+    /**
+     * 단일 샤드 조회.
+     */
+    public List<Member> findByTeam(Long teamId, Predicate... where) {
+        return shardOf(teamId).query(queryFactory -> selectMembers(queryFactory)
+                .where(member.team.id.eq(teamId))
+                .where(where)
+                .orderBy(member.id.asc())
+                .fetch());
+    }
+
+    public long countByTeam(Long teamId, Predicate... where) {
+        return shardOf(teamId).query(queryFactory -> countMembers(queryFactory, where).where(member.team.id.eq(teamId)).fetchOne());
+    }
+
+    public long count(Predicate... where) {
+        return scatter(queryFactory -> countMembers(queryFactory, where).fetchOne()).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public AgeStats ageStats(Predicate... where) {
+        return scatter(queryFactory -> {
+            Tuple tuple = queryFactory
+                    .select(member.count(), AGE_SUM, member.age.min(), member.age.max())
+                    .from(member)
+                    .where(where)
+                    .fetchOne();
+            long count = tuple.get(member.count());
+            return count == 0 ? AgeStats.EMPTY : new AgeStats(count, tuple.get(AGE_SUM),
+                    tuple.get(member.age.min()), tuple.get(member.age.max()));
+        }).stream().reduce(AgeStats.EMPTY, AgeStats::merge);
+    }
+
+    /**
+     * 전체 샤드 페이징. 같은 값끼리 순서가 샤드마다 달라지지 않게 마지막에 member.id 를 붙인다.
+     * 정렬은 member.xxx, team.xxx 경로만 된다. (MemberOrdering)
+     * 팀 없는 회원도 나오게 team 은 left join 이므로 팀 이름 정렬은 member.team.name 말고 team.name 으로.
+     */
+    public List<Member> findPage(Predicate where, long offset, long limit, OrderSpecifier<?>... orders) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset and limit must not be negative");
+        }
+        if (limit == 0) {
+            return List.of();
+        }
+        OrderSpecifier<?>[] stableOrders = Arrays.copyOf(orders, orders.length + 1);
+        stableOrders[orders.length] = member.id.asc();
+        Comparator<Member> comparator = MemberOrdering.comparator(stableOrders);
+
+        List<List<Member>> perShard = scatter(queryFactory -> selectMembers(queryFactory)
+                .where(where)
+                .orderBy(stableOrders)
+                .limit(offset + limit)
+                .fetch());
+        return merge(perShard, comparator, offset, limit);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (Shard shard : shards) {
+            try {
+                shard.close();
+            } catch (RuntimeException e) {
+                log.warn("failed to close shard {}", shard.getIndex(), e);
+            }
+        }
+    }
+
+    private Shard shardOf(Long teamId) {
+        return shards.get(shardMap.shardOf(teamId));
+    }
+
+    private static JPAQuery<Member> selectMembers(JPAQueryFactory queryFactory) {
+        return queryFactory
+                .selectFrom(member)
+                .leftJoin(member.team, team).fetchJoin();
+    }
+
+    private static JPAQuery<Long> countMembers(JPAQueryFactory queryFactory, Predicate... where) {
+        return queryFactory
+                .select(member.count())
+                .from(member)
+                .where(where);
+    }
+
+    /**
+     * 결과는 샤드 순서대로. 한 샤드라도 실패하면 그 예외를 그대로 던진다.
+     */
+    private <T> List<T> scatter(Function<JPAQueryFactory, T> work) {
+        List<CompletableFuture<T>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.query(work), executor))
+                .collect(Collectors.toList());
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 각 샤드 결과는 이미 정렬돼 있으니 샤드 수 만큼의 커서로 k-way merge.
+     */
+    static <T> List<T> merge(List<List<T>> sortedLists, Comparator<T> comparator, long offset, long limit) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>((a, b) -> comparator.compare(a.current(), b.current()));
+        for (List<T> list : sortedLists) {
+            if (!list.isEmpty()) {
+                heads.add(new Cursor<>(list));
+            }
+        }
+        List<T> page = new ArrayList<>();
+        long skipped = 0;
+        while (!heads.isEmpty() && page.size() < limit) {
+            Cursor<T> head = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(head.current());
+            }
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return page;
+    }
+
+    private static class Cursor<T> {
+
+        private final List<T> list;
+        private int position;
+
+        Cursor(List<T> list) {
+            this.list = list;
+        }
+
+        T current() {
+            return list.get(position);
+        }
+
+        boolean advance() {
+            return ++position < list.size();
+        }
+    }
+}
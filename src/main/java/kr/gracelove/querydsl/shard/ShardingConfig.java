@@ -0,0 +1,46 @@
+package kr.gracelove.querydsl.shard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * sharding.enabled=true 일 때만. 기본 datasource, JPAQueryFactory 는 그대로 두고 샤드 저장소만 따로 올린다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardedMemberRepository shardedMemberRepository(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("sharding.shards is empty");
+        }
+        List<Shard> shards = new ArrayList<>();
+        try {
+            for (ShardingProperties.ShardProperties shard : properties.getShards()) {
+                shards.add(Shard.open(shards.size(), shard.getUrl(), shard.getUsername(), shard.getPassword(),
+                        shard.getMaximumPoolSize(), shard.getDdlAuto()));
+            }
+        } catch (RuntimeException e) {
+            shards.forEach(Shard::close);
+            throw e;
+        }
+        return new ShardedMemberRepository(shards);
+    }
+}
@@ -0,0 +1,40 @@
+package kr.gracelove.querydsl.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * sharding.shards 의 순서가 곧 샤드 번호다. 이미 데이터가 있으면 순서를 바꾸면 안 된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+    private List<ShardProperties> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class ShardProperties {
+        private String url;
+        private String username = "sa";
+        private String password = "";
+        private int maximumPoolSize = 10;
+        private String ddlAuto = "update";
+    }
+}
@@ -0,0 +1,101 @@
+package kr.gracelove.querydsl.transfer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 한 줄 = 한 레코드인 CSV. 따옴표 안의 콤마, "" 이스케이프는 지원하고 값 안의 줄바꿈은 지원 안 한다.
+ * 따옴표 없는 빈 값은 null, "" 는 빈 문자열.
+ */
+class CsvRecordReader implements MemberRecordReader {
+
+    private final BufferedReader in;
+    private long lineNumber;
+
+    CsvRecordReader(Reader in) throws IOException {
+        this.in = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        String header = this.in.readLine();
+        lineNumber = 1;
+        if (header != null && !header.trim().equalsIgnoreCase(CsvRecordWriter.HEADER)) {
+            throw new IllegalArgumentException("unexpected csv header : " + header);
+        }
+    }
+
+    @Override
+    public MemberRecord next() throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.isEmpty());
+
+        List<String> fields = split(line);
+        if (fields.size() != 3) {
+            throw new IllegalArgumentException("line " + lineNumber + " : expected 3 fields but " + fields.size());
+        }
+        try {
+            return new MemberRecord(fields.get(0), Integer.parseInt(fields.get(1)), fields.get(2));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("line " + lineNumber + " : invalid age " + fields.get(1), e);
+        }
+    }
+
+    private List<String> split(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(toValue(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("line " + lineNumber + " : unterminated quote");
+        }
+        fields.add(toValue(field, wasQuoted));
+        return fields;
+    }
+
+    private static String toValue(StringBuilder field, boolean wasQuoted) {
+        return field.length() == 0 && !wasQuoted ? null : field.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
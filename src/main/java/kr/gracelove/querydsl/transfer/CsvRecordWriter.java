@@ -0,0 +1,63 @@
+package kr.gracelove.querydsl.transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+class CsvRecordWriter implements MemberRecordWriter {
+
+    static final String HEADER = "username,age,team";
+
+    private final BufferedWriter out;
+
+    CsvRecordWriter(Writer out) throws IOException {
+        this.out = out instanceof BufferedWriter ? (BufferedWriter) out : new BufferedWriter(out);
+        this.out.write(HEADER);
+        this.out.newLine();
+    }
+
+    @Override
+    public void write(MemberRecord record) throws IOException {
+        writeField(record.getUsername());
+        out.write(',');
+        out.write(Integer.toString(record.getAge()));
+        out.write(',');
+        writeField(record.getTeamName());
+        out.newLine();
+    }
+
+    /**
+     * CsvRecordReader 가 한 줄 = 한 레코드라서 줄바꿈이 들어간 값은 따옴표로 감싸도 다시 못 읽는다. 쓰기 전에 막는다.
+     */
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("csv value must not contain line breaks : "
+                    + value.replace("\r", "\\r").replace("\n", "\\n"));
+        }
+        if (value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0) {
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        } else {
+            out.write(value);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
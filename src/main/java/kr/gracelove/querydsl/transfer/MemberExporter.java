@@ -0,0 +1,147 @@
+package kr.gracelove.querydsl.transfer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 대량 회원 내보내기. member_id 범위를 partitions 개로 나눠서 파티션마다
+ * 자기 StatelessSession(=커넥션) 에서 forward-only 스크롤로 읽고 members-000.csv 같은 파일 하나씩 쓴다.
+ * 파티션 안에서는 id 순서. 파일 이름 순서대로 이어붙이면 전체 id 순서가 된다.
+ */
+@Component
+public class MemberExporter {
+
+    private static final String SELECT_RANGE = "select m.username, m.age, t.name from Member m left join m.team t " +
+            "where m.id between :from and :to order by m.id";
+
+    private final SessionFactory sessionFactory;
+    private final int fetchSize;
+    private final long reportEvery;
+
+    public MemberExporter(EntityManagerFactory entityManagerFactory,
+                          @Value("${transfer.batch-size:1000}") int fetchSize,
+                          @Value("${transfer.report-every:100000}") long reportEvery) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.fetchSize = fetchSize;
+        this.reportEvery = reportEvery;
+    }
+
+    /**
+     * @param partitions 동시에 쓰는 커넥션 수이기도 하다. 커넥션 풀 크기보다 크게 주지 말자.
+     */
+    public TransferResult exportMembers(Path directory, RecordFormat format, int partitions) throws IOException {
+        Files.createDirectories(directory);
+        TransferProgress progress = new TransferProgress("member export", reportEvery);
+
+        Object[] bounds;
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            bounds = session.createQuery("select min(m.id), max(m.id) from Member m", Object[].class).uniqueResult();
+        }
+        if (bounds[0] == null) {
+            return progress.finish();
+        }
+
+        long min = (Long) bounds[0];
+        long max = (Long) bounds[1];
+        long count = Math.max(1, Math.min(partitions, max - min + 1));
+        long step = (max - min) / count + 1;
+        int ranges = (int) ((max - min) / step + 1); // step 을 올림했으니 count 보다 적을 수 있다. (ex. id 10개, 6개 요청 -> 5개)
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(ranges,
+                task -> new Thread(task, "member-export-" + threadNumber.incrementAndGet()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(ranges);
+            int partition = 0;
+            for (long from = min; from <= max; from += step) {
+                long rangeFrom = from;
+                long rangeTo = Math.min(max, from + step - 1);
+                Path file = directory.resolve(String.format("members-%03d.%s", partition++, format.getExtension()));
+                futures.add(executor.submit(() -> {
+                    exportRange(rangeFrom, rangeTo, file, format, progress);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                await(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return progress.finish();
+    }
+
+    private void exportRange(long from, long to, Path file, RecordFormat format, TransferProgress progress)
+            throws IOException {
+        try (StatelessSession session = sessionFactory.openStatelessSession();
+             MemberRecordWriter writer = format.writer(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            ScrollableResults rows = session.createQuery(SELECT_RANGE, Object[].class)
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .setFetchSize(fetchSize)
+                    .setReadOnly(true)
+                    .scroll(ScrollMode.FORWARD_ONLY);
+            try {
+                long written = 0;
+                while (rows.next()) {
+                    writer.write(new MemberRecord((String) rows.get(0), (Integer) rows.get(1), (String) rows.get(2)));
+                    if (++written % fetchSize == 0) {
+                        progress.add(fetchSize);
+                    }
+                }
+                progress.add(written % fetchSize);
+            } finally {
+                rows.close();
+            }
+        }
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("export interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package kr.gracelove.querydsl.transfer;
+
+import kr.gracelove.querydsl.changefeed.ChangeCapture;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 대량 회원 가져오기. StatelessSession 을 써서 1차캐시, 변경감지, cascade 없이 넣는다.
+ * <p>
+ * - 파일은 한 건씩 스트리밍으로 읽고 batchSize 건씩 끊어서 커밋한다. 메모리는 건수와 상관없이 일정하다.
+ * - 팀 이름 -> id 는 처음에 한번 읽어서 로컬 Map 으로 찾는다. 없는 팀은 만든다.
+ * - Member 는 IDENTITY 라서 Hibernate insert 배치가 꺼진다. 그래서 세션 커넥션으로 JDBC 배치를 직접 쓴다.
+ * - 엔티티 이벤트가 안 나가므로 끝나고 체인지피드에 벌크 변경으로 알린다.
+ */
+@Component
+public class MemberImporter {
+
+    static final String INSERT_MEMBER = "insert into member (username, age, team_id, version) values (?, ?, ?, 0)";
+
+    private final SessionFactory sessionFactory;
+    private final ChangeCapture changeCapture;
+    private final int batchSize;
+    private final long reportEvery;
+
+    public MemberImporter(EntityManagerFactory entityManagerFactory,
+                          ChangeCapture changeCapture,
+                          @Value("${transfer.batch-size:1000}") int batchSize,
+                          @Value("${transfer.report-every:100000}") long reportEvery) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.changeCapture = changeCapture;
+        this.batchSize = batchSize;
+        this.reportEvery = reportEvery;
+    }
+
+    public TransferResult importMembers(Path file, RecordFormat format) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) { // 헤더가 틀려서 reader 를 못 만들어도 닫히게.
+            return importMembers(in, format);
+        }
+    }
+
+    /**
+     * 중간에 실패하면 그 전까지 커밋된 배치는 남는다.
+     */
+    public TransferResult importMembers(Reader in, RecordFormat format) throws IOException {
+        TransferProgress progress = new TransferProgress("member import", reportEvery);
+        long imported = 0;
+        boolean teamsCreated = false;
+        try (MemberRecordReader reader = format.reader(in);
+             StatelessSession session = sessionFactory.openStatelessSession()) {
+            Map<String, Long> teamIds = loadTeamIds(session);
+            int knownTeams = teamIds.size();
+            List<MemberRecord> chunk = new ArrayList<>(batchSize);
+            try {
+                do {
+                    chunk.clear();
+                    MemberRecord record;
+                    while (chunk.size() < batchSize && (record = reader.next()) != null) {
+                        chunk.add(record);
+                    }
+                    if (!chunk.isEmpty()) {
+                        writeChunk(session, chunk, teamIds);
+                        imported += chunk.size();
+                        progress.add(chunk.size());
+                    }
+                } while (chunk.size() == batchSize);
+            } finally {
+                teamsCreated = teamIds.size() != knownTeams;
+            }
+        } finally {
+            if (teamsCreated) {
+                changeCapture.bulk(Team.class, null);
+            }
+            if (imported > 0) {
+                changeCapture.bulk(Member.class, null);
+            }
+        }
+        return progress.finish();
+    }
+
+    private Map<String, Long> loadTeamIds(StatelessSession session) {
+        Map<String, Long> teamIds = new HashMap<>();
+        List<Object[]> rows = session.createQuery("select t.id, t.name from Team t order by t.id", Object[].class).list();
+        for (Object[] row : rows) {
+            teamIds.putIfAbsent((String) row[1], (Long) row[0]);
+        }
+        return teamIds;
+    }
+
+    private void writeChunk(StatelessSession session, List<MemberRecord> chunk, Map<String, Long> teamIds) {
+        Transaction tx = session.beginTransaction();
+        try {
+            Long[] chunkTeamIds = new Long[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                String teamName = chunk.get(i).getTeamName();
+                if (teamName != null) {
+                    chunkTeamIds[i] = teamIds.computeIfAbsent(teamName, name -> (Long) session.insert(new Team(name)));
+                }
+            }
+
+            session.doWork(connection -> {
+                try (PreparedStatement insert = connection.prepareStatement(INSERT_MEMBER)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        MemberRecord record = chunk.get(i);
+                        insert.setString(1, record.getUsername());
+                        insert.setInt(2, record.getAge());
+                        if (chunkTeamIds[i] == null) {
+                            insert.setNull(3, Types.BIGINT);
+                        } else {
+                            insert.setLong(3, chunkTeamIds[i]);
+                        }
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+            });
+            tx.commit();
+        } catch (RuntimeException e) {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package kr.gracelove.querydsl.transfer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 가져오기/내보내기 한 줄. 팀은 id 대신 이름으로 주고받는다. (DB마다 id가 다르니까)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class MemberRecord {
+
+    private final String username;
+    private final int age;
+    private final String teamName;
+}
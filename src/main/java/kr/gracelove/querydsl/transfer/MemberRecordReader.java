@@ -0,0 +1,25 @@
+package kr.gracelove.querydsl.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 한 건씩 읽는다. 전체를 메모리에 올리지 않는다.
+ */
+public interface MemberRecordReader extends Closeable {
+
+    /**
+     * @return 다음 레코드. 끝이면 null.
+     */
+    MemberRecord next() throws IOException;
+}
@@ -0,0 +1,19 @@
+package kr.gracelove.querydsl.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+public interface MemberRecordWriter extends Closeable {
+
+    void write(MemberRecord record) throws IOException;
+}
@@ -0,0 +1,91 @@
+package kr.gracelove.querydsl.transfer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * Jackson 스트리밍 파서로 루트 객체를 하나씩 읽는다. 모르는 필드는 건너뛴다.
+ * age 는 빠지면 안 되고 정수만, username, team 은 문자열이나 null 만 받는다. 아니면 위치와 함께 IllegalArgumentException.
+ */
+class NdjsonRecordReader implements MemberRecordReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+
+    NdjsonRecordReader(Reader in) throws IOException {
+        this.parser = JSON_FACTORY.createParser(in);
+    }
+
+    @Override
+    public MemberRecord next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw invalid("expected json object");
+        }
+
+        String username = null;
+        Integer age = null;
+        String teamName = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "username":
+                    username = stringOrNull(field, value);
+                    break;
+                case "age":
+                    if (value != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() != JsonParser.NumberType.INT) {
+                        throw invalid("age must be an int but " + value);
+                    }
+                    age = parser.getIntValue();
+                    break;
+                case "team":
+                    teamName = stringOrNull(field, value);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (age == null) {
+            throw invalid("missing age");
+        }
+        return new MemberRecord(username, age, teamName);
+    }
+
+    private String stringOrNull(String field, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value != JsonToken.VALUE_STRING) {
+            throw invalid(field + " must be a string or null but " + value);
+        }
+        return parser.getText();
+    }
+
+    private IllegalArgumentException invalid(String message) {
+        return new IllegalArgumentException(message + " at " + parser.getCurrentLocation());
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
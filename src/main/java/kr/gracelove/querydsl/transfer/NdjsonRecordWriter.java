@@ -0,0 +1,45 @@
+package kr.gracelove.querydsl.transfer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+class NdjsonRecordWriter implements MemberRecordWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    NdjsonRecordWriter(Writer out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out);
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    @Override
+    public void write(MemberRecord record) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("username", record.getUsername());
+        generator.writeNumberField("age", record.getAge());
+        generator.writeStringField("team", record.getTeamName());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.writeRaw('\n');
+        generator.close();
+    }
+}
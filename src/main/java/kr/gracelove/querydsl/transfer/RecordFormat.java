@@ -0,0 +1,62 @@
+package kr.gracelove.querydsl.transfer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+public enum RecordFormat {
+
+    /**
+     * username,age,team 헤더가 있는 CSV.
+     */
+    CSV("csv") {
+        @Override
+        public MemberRecordReader reader(Reader in) throws IOException {
+            return new CsvRecordReader(in);
+        }
+
+        @Override
+        public MemberRecordWriter writer(Writer out) throws IOException {
+            return new CsvRecordWriter(out);
+        }
+    },
+
+    /**
+     * 한 줄에 JSON 객체 하나. {"username":"member1","age":10,"team":"teamA"}
+     */
+    NDJSON("ndjson") {
+        @Override
+        public MemberRecordReader reader(Reader in) throws IOException {
+            return new NdjsonRecordReader(in);
+        }
+
+        @Override
+        public MemberRecordWriter writer(Writer out) throws IOException {
+            return new NdjsonRecordWriter(out);
+        }
+    };
+
+    private final String extension;
+
+    RecordFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public abstract MemberRecordReader reader(Reader in) throws IOException;
+
+    public abstract MemberRecordWriter writer(Writer out) throws IOException;
+}
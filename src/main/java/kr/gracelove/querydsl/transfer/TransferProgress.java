@@ -0,0 +1,56 @@
+package kr.gracelove.querydsl.transfer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 처리 건수와 처리량을 reportEvery 건마다 로그로 남긴다. 여러 스레드에서 같이 써도 된다.
+ */
+@Slf4j
+class TransferProgress {
+
+    private final String name;
+    private final long reportEvery;
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong rows = new AtomicLong();
+
+    TransferProgress(String name, long reportEvery) {
+        this.name = name;
+        this.reportEvery = reportEvery;
+    }
+
+    void add(long count) {
+        long before = rows.getAndAdd(count);
+        long after = before + count;
+        if (before / reportEvery != after / reportEvery) {
+            log.info("{} : {} rows ({} rows/s)", name, after, (long) rowsPerSecond(after, elapsed()));
+        }
+    }
+
+    TransferResult finish() {
+        TransferResult result = new TransferResult(rows.get(), elapsed());
+        log.info("{} done : {}", name, result);
+        return result;
+    }
+
+    private Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    static double rowsPerSecond(long rows, Duration elapsed) {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return rows * 1_000_000_000.0 / nanos;
+    }
+}
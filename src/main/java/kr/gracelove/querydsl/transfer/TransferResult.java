@@ -0,0 +1,33 @@
+package kr.gracelove.querydsl.transfer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+@Getter
+@RequiredArgsConstructor
+public class TransferResult {
+
+    private final long rows;
+    private final Duration elapsed;
+
+    public double getRowsPerSecond() {
+        return TransferProgress.rowsPerSecond(rows, elapsed);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows in %d ms (%.0f rows/s)", rows, elapsed.toMillis(), getRowsPerSecond());
+    }
+}
@@ -0,0 +1,150 @@
+package kr.gracelove.querydsl.admission;
+
+import kr.gracelove.querydsl.dto.MemberSearchCondition;
+import kr.gracelove.querydsl.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * SEARCH 는 동시 1개, 대기 1개. 테스트마다 자리를 다 돌려주므로 숫자는 누적값 차이로 본다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admission-test;DB_CLOSE_DELAY=-1",
+        "admission.limits.search.max-concurrent=1",
+        "admission.limits.search.max-queue=1",
+        "admission.limits.search.timeout=500ms",
+        "admission.limits.paged.timeout=1s"
+})
+class AdmissionControlTest {
+
+    @Autowired
+    AdmissionControl admissionControl;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Test
+    void runsInsideReadOnlyTransaction() {
+        Boolean readOnly = admissionControl.execute(QueryClass.PAGED, () -> {
+            memberRepository.searchPage(new MemberSearchCondition(), 0, 10);
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        });
+        assertTrue(readOnly);
+    }
+
+    @Test
+    void queueFullAndDeadline() throws Exception {
+        AdmissionMetrics before = admissionControl.metrics(QueryClass.SEARCH);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> holder = executor.submit(() -> admissionControl.execute(QueryClass.SEARCH, () -> {
+                running.countDown();
+                await(release);
+                return null;
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            Future<?> waiter = executor.submit(() -> admissionControl.execute(QueryClass.SEARCH, () -> null));
+            awaitQueued(1);
+
+            QueryRejectedException queueFull = assertThrows(QueryRejectedException.class,
+                    () -> admissionControl.execute(QueryClass.SEARCH, () -> null));
+            assertEquals(QueryRejectedException.Reason.QUEUE_FULL, queueFull.getReason());
+
+            ExecutionException waited = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertEquals(QueryRejectedException.Reason.DEADLINE_EXCEEDED, ((QueryRejectedException) waited.getCause()).getReason());
+
+            AdmissionMetrics during = admissionControl.metrics(QueryClass.SEARCH);
+            assertEquals(1, during.getActive());
+            assertEquals(0, during.getQueued());
+            assertEquals(before.getRejectedQueueFull() + 1, during.getRejectedQueueFull());
+            assertEquals(before.getRejectedDeadline() + 1, during.getRejectedDeadline());
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        assertEquals(0, admissionControl.metrics(QueryClass.SEARCH).getActive());
+    }
+
+    /**
+     * 트랜잭션 timeout(1초)을 넘긴 뒤에 나가는 쿼리는 실행 전에 막힌다.
+     */
+    @Test
+    void queryAfterDeadlineTimesOut() {
+        long timedOut = admissionControl.metrics(QueryClass.PAGED).getTimedOut();
+
+        QueryRejectedException e = assertThrows(QueryRejectedException.class,
+                () -> admissionControl.execute(QueryClass.PAGED, () -> {
+                    sleep(1_200);
+                    return memberRepository.searchPage(new MemberSearchCondition(), 0, 10);
+                }));
+
+        assertEquals(QueryRejectedException.Reason.TIMEOUT, e.getReason());
+        assertEquals(timedOut + 1, admissionControl.metrics(QueryClass.PAGED).getTimedOut());
+    }
+
+    @Test
+    void requestDeadlineIsHonored() {
+        Deadline.set(Deadline.after(Duration.ZERO));
+        try {
+            QueryRejectedException e = assertThrows(QueryRejectedException.class,
+                    () -> admissionControl.execute(QueryClass.LOOKUP, () -> null));
+            assertEquals(QueryRejectedException.Reason.DEADLINE_EXCEEDED, e.getReason());
+        } finally {
+            Deadline.clear();
+        }
+    }
+
+    private void awaitQueued(int queued) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (admissionControl.metrics(QueryClass.SEARCH).getQueued() != queued) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("not queued in 5 seconds");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
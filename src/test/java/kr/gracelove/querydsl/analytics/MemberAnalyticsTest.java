@@ -0,0 +1,153 @@
+package kr.gracelove.querydsl.analytics;
+
+import kr.gracelove.querydsl.changefeed.ChangeFeed;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import kr.gracelove.querydsl.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static kr.gracelove.querydsl.changefeed.ChangeFeedAwait.awaitDelivered;
+import static kr.gracelove.querydsl.changefeed.ChangeFeedAwait.awaitTrue;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 스냅샷은 체인지피드로 따라온다. (ChangeFeedAwait)
+ * 테스트끼리 DB를 같이 쓰므로 나이 구간을 나눠서 본다. (100대, 300대, 500대)
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:analytics-test;DB_CLOSE_DELAY=-1")
+class MemberAnalyticsTest {
+
+    @Autowired
+    MemberAnalytics analytics;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ChangeFeed changeFeed;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @BeforeEach
+    void awaitFresh() throws InterruptedException {
+        awaitTrue(analytics::isFresh);
+    }
+
+    @Test
+    void appliesCommittedChangesIncrementally() throws InterruptedException {
+        List<Long> memberIds = transactionTemplate.execute(status -> {
+            Team team = new Team("analyticsTeam");
+            em.persist(team);
+            Member member1 = new Member("analytics1", 100, team);
+            Member member2 = new Member("analytics2", 110, team);
+            em.persist(member1);
+            em.persist(member2);
+            return List.of(member1.getId(), member2.getId());
+        });
+        awaitTrue(() -> analytics.ageStats(100, 199).getCount() == 2);
+
+        transactionTemplate.executeWithoutResult(status -> em.find(Member.class, memberIds.get(0)).changeAge(120));
+        awaitTrue(() -> analytics.ageStats(100, 199).getSum() == 230);
+
+        transactionTemplate.executeWithoutResult(status -> em.remove(em.find(Member.class, memberIds.get(1))));
+        awaitTrue(() -> analytics.ageStats(100, 199).getCount() == 1);
+
+        assertTrue(analytics.isFresh());
+        assertEquals(new AgeStats(1, 120, 120, 120), analytics.ageStats(100, 199));
+        assertThat(analytics.ageStatsByTeam(100, 199))
+                .extracting(TeamAgeStats::getTeamName)
+                .containsExactly("analyticsTeam");
+        assertEquals(0, analytics.countByUsername("analytics2"));
+    }
+
+    /**
+     * 네이티브 insert 는 체인지피드에 안 잡혀서 스냅샷에는 안 보인다.
+     * 벌크연산이 커밋되거나 overflow 가 나면 다시 만들 때까지 DB로 가므로 바로 보인다.
+     */
+    @Test
+    void fallsBackToDatabaseWhileStale() throws InterruptedException {
+        insertNative("analyticsHidden1", 300);
+        assertTrue(analytics.isFresh());
+        assertEquals(0, analytics.ageStats(300, 399).getCount()); // 스냅샷에서 읽었다.
+
+        memberRepository.bulkUpdateUsername("analyticsNobody", 0); // 바뀌는 행은 없어도 벌크 이벤트는 나간다.
+        assertFalse(analytics.isFresh()); // 디스패처를 기다리지 않는다.
+        assertEquals(1, analytics.ageStats(300, 399).getCount());
+
+        awaitTrue(analytics::isFresh);
+        insertNative("analyticsHidden2", 310);
+        assertEquals(1, analytics.ageStats(300, 399).getCount());
+
+        analytics.onOverflow();
+        assertEquals(new AgeStats(2, 610, 300, 310), analytics.ageStats(300, 399));
+        assertEquals(1, analytics.countByUsername("analyticsHidden2"));
+
+        awaitTrue(analytics::isFresh);
+        assertEquals(new AgeStats(2, 610, 300, 310), analytics.ageStats(300, 399));
+    }
+
+    /**
+     * 다시 만드는 동안 커밋된 변경은 새 스냅샷에 다시 적용돼야 한다. 끝나고 나면 DB와 같아야 한다.
+     */
+    @Test
+    void replaysChangesCommittedDuringRebuild() throws Exception {
+        int members = 200;
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        Future<?> writes = writer.submit(() -> {
+            for (int i = 0; i < members; i++) {
+                int age = 500 + i % 100;
+                String username = "analyticsReplay" + i;
+                transactionTemplate.executeWithoutResult(status -> em.persist(new Member(username, age)));
+            }
+        });
+        while (!writes.isDone()) {
+            analytics.onOverflow();
+            Thread.sleep(5);
+        }
+        writes.get(10, TimeUnit.SECONDS);
+        writer.shutdown();
+
+        awaitDelivered(changeFeed);
+        awaitTrue(analytics::isFresh);
+        long expectedSum = 0;
+        for (int i = 0; i < members; i++) {
+            expectedSum += 500 + i % 100;
+        }
+        assertEquals(new AgeStats(members, expectedSum, 500, 599), analytics.ageStats(500, 599));
+    }
+
+    private void insertNative(String username, int age) {
+        transactionTemplate.executeWithoutResult(status -> em
+                .createNativeQuery("insert into member (username, age, team_id, version) values (?, ?, null, 0)")
+                .setParameter(1, username)
+                .setParameter(2, age)
+                .executeUpdate());
+    }
+}
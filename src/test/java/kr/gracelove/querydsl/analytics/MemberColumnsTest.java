@@ -0,0 +1,129 @@
+package kr.gracelove.querydsl.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * MemberTest 의 aggregation(), group() 과 같은 데이터로 같은 결과가 나와야 한다.
+ */
+class MemberColumnsTest {
+
+    static final long TEAM_A = 1L;
+    static final long TEAM_B = 2L;
+
+    MemberColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        columns = new MemberColumns();
+        columns.upsert(1L, "member1", 10, TEAM_A);
+        columns.upsert(2L, "member2", 20, TEAM_A);
+        columns.upsert(3L, "member3", 30, TEAM_B);
+        columns.upsert(4L, "member4", 40, TEAM_B);
+    }
+
+    @Test
+    void aggregation() {
+        AgeStats stats = columns.ageStats(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertEquals(4, stats.getCount());
+        assertEquals(100, stats.getSum());
+        assertEquals(25, stats.getAvg());
+        assertEquals(40, stats.getMax());
+        assertEquals(10, stats.getMin());
+    }
+
+    @Test
+    void group() {
+        Map<Long, AgeStats> byTeam = columns.ageStatsByTeam(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertThat(byTeam.keySet()).containsExactly(TEAM_A, TEAM_B);
+        assertEquals(15, byTeam.get(TEAM_A).getAvg());
+        assertEquals(35, byTeam.get(TEAM_B).getAvg());
+    }
+
+    @Test
+    void incrementalChanges() {
+        columns.upsert(1L, "member1", 10, TEAM_B); // changeTeam
+        columns.delete(4L);
+        columns.upsert(5L, null, 50, null);        // 팀 없는 회원
+
+        AgeStats all = columns.ageStats(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(4, all.getCount());
+        assertEquals(110, all.getSum());
+
+        Map<Long, AgeStats> byTeam = columns.ageStatsByTeam(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(new AgeStats(1, 20, 20, 20), byTeam.get(TEAM_A));
+        assertEquals(new AgeStats(2, 40, 10, 30), byTeam.get(TEAM_B));
+
+        assertEquals(1, columns.countByUsername(null));
+        assertEquals(0, columns.countByUsername("member4"));
+    }
+
+    @Test
+    void ageRangeAndEmpty() {
+        assertEquals(new AgeStats(2, 50, 20, 30), columns.ageStats(20, 30));
+        AgeStats empty = columns.ageStats(41, Integer.MAX_VALUE);
+        assertEquals(0, empty.getCount());
+        assertNull(empty.getAvg());
+        assertNull(empty.getMin());
+    }
+
+    /**
+     * 여러 청크에 걸쳐 병렬로 돌려도 결과가 같아야 하고, 절반 넘게 지우면 압축돼도 남은 행은 그대로.
+     */
+    @Test
+    void largeSnapshot() {
+        columns = new MemberColumns();
+        int rows = 200_000;
+        for (long id = 0; id < rows; id++) {
+            columns.upsert(id, "member" + id, (int) (id % 100), id % 10);
+        }
+        for (long id = 0; id < rows; id += 4) {
+            columns.delete(id);
+            columns.delete(id + 1);
+            columns.delete(id + 2);
+        }
+
+        long expectedSum = 0;
+        for (long id = 3; id < rows; id += 4) {
+            expectedSum += id % 100;
+        }
+        AgeStats stats = columns.ageStats(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(rows / 4, stats.getCount());
+        assertEquals(expectedSum, stats.getSum());
+        assertEquals(rows / 4, columns.size());
+        assertEquals(1, columns.countByUsername("member199999"));
+    }
+
+    /**
+     * 삭제 없이 이름만 계속 바꿔도 사전이 끝없이 커지지 않는다.
+     */
+    @Test
+    void renamesDoNotGrowDictionary() {
+        for (int i = 0; i < 100_000; i++) {
+            columns.upsert(1L, "renamed" + i, 10, TEAM_A);
+        }
+
+        assertThat(columns.usernameDictionarySize()).isLessThanOrEqualTo(1024 + 1);
+        assertEquals(1, columns.countByUsername("renamed99999"));
+        assertEquals(0, columns.countByUsername("renamed0"));
+        assertEquals(1, columns.countByUsername("member2"));
+        assertEquals(new AgeStats(2, 30, 10, 20), columns.ageStatsByTeam(Integer.MIN_VALUE, Integer.MAX_VALUE).get(TEAM_A));
+    }
+}
@@ -0,0 +1,77 @@
+package kr.gracelove.querydsl.benchmark;
+
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+
+import javax.persistence.EntityManager;
+import java.util.function.Supplier;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 벤치마크용 측정 도구. 정밀한 측정이 아니라 비교용이다. (JMH 아님)
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * member{i} (나이 i % 100) 를 team{i % teams} 에 골고루 나눠 넣는다. 트랜잭션 안에서 호출.
+     */
+    static void seedMembers(EntityManager em, int teams, int members) {
+        Long[] teamIds = new Long[teams];
+        for (int i = 0; i < teams; i++) {
+            Team team = new Team("team" + i);
+            em.persist(team);
+            teamIds[i] = team.getId();
+        }
+        for (int i = 0; i < members; i++) {
+            em.persist(new Member("member" + i, i % 100, em.getReference(Team.class, teamIds[i % teams])));
+            if (i % 1_000 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    static double millis(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    static <T> T timed(String label, Supplier<T> task) {
+        long start = System.nanoTime();
+        T result = task.get();
+        report("%s : %.2f ms", label, (System.nanoTime() - start) / 1_000_000.0);
+        return result;
+    }
+
+    static void report(String format, Object... args) {
+        System.out.println("[benchmark] " + String.format(format, args));
+    }
+}
@@ -0,0 +1,165 @@
+package kr.gracelove.querydsl.benchmark;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+
+import static kr.gracelove.querydsl.benchmark.BenchmarkSupport.*;
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static kr.gracelove.querydsl.entity.QTeam.team;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 영속성컨텍스트에 엔티티가 많을 때 flush(변경감지) 비용과 엔티티당 힙 사용량.
+ * <p>
+ * 바이트코드 향상 전후 비교. 결과는 build/benchmark-results/flush-{plain,enhanced}.properties 에 남는다.
+ * <pre>
+ * ./gradlew benchmark --tests '*FlushBenchmarkTest' -PnoEnhance   // 기준값 (향상 안 함)
+ * ./gradlew benchmark --tests '*FlushBenchmarkTest'               // 기준값이 있으면 flush 가 더 빨라야 통과
+ * </pre>
+ * 엔티티당 힙은 변경추적 필드가 붙는 대신 스냅샷 비교가 빠지는 거라 어느 쪽이 작다고 단정하지 않고 비율만 찍는다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flush-benchmark;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+        "logging.level.org.hibernate.SQL=info"
+})
+class FlushBenchmarkTest {
+
+    static final int TEAMS = 100;
+    static final int MEMBERS = 20_000;
+    static final int FLUSH_ROUNDS = 20;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (queryFactory.selectFrom(member).fetchCount() > 0) {
+                return;
+            }
+            seedMembers(em, TEAMS, MEMBERS);
+        });
+    }
+
+    @Test
+    void flushAndHeapPerManagedEntity() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.clear();
+            long before = usedHeapAfterGc();
+            List<Member> members = queryFactory
+                    .selectFrom(member)
+                    .join(member.team, team).fetchJoin()
+                    .fetch();
+            long after = usedHeapAfterGc();
+
+            double flushMillis = millis(() -> {
+                for (int i = 0; i < FLUSH_ROUNDS; i++) {
+                    em.flush();
+                }
+            }) / FLUSH_ROUNDS;
+
+            boolean enhanced = ManagedEntity.class.isAssignableFrom(Member.class);
+            long heapPerEntity = (after - before) / (members.size() + TEAMS);
+            report("enhanced=%s managed=%d heap/entity=%d bytes flush=%.2f ms",
+                    enhanced, members.size() + TEAMS, heapPerEntity, flushMillis);
+            store(enhanced ? "enhanced" : "plain", heapPerEntity, flushMillis);
+            if (enhanced) {
+                compareWithPlain(heapPerEntity, flushMillis);
+            }
+
+            // 향상된 클래스에서도 changeTeam 이 그대로 동작해야 한다.
+            Member moving = members.get(0);
+            Team target = members.get(1).getTeam();
+            moving.changeTeam(target);
+            em.flush();
+
+            Long teamId = queryFactory
+                    .select(member.team.id)
+                    .from(member)
+                    .where(member.id.eq(moving.getId()))
+                    .fetchOne();
+            assertEquals(target.getId(), teamId);
+
+            status.setRollbackOnly();
+        });
+    }
+
+    private static void compareWithPlain(long heapPerEntity, double flushMillis) {
+        Path plainFile = resultsDir().resolve("flush-plain.properties");
+        if (!Files.exists(plainFile)) {
+            report("no baseline at %s. run once with -PnoEnhance to compare.", plainFile);
+            return;
+        }
+        Properties plain = new Properties();
+        try (Reader in = Files.newBufferedReader(plainFile)) {
+            plain.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long plainHeap = Long.parseLong(plain.getProperty("heapPerEntity"));
+        double plainFlush = Double.parseDouble(plain.getProperty("flushMillis"));
+        report("vs -PnoEnhance : heap/entity %d -> %d bytes (x%.2f), flush %.2f -> %.2f ms (x%.2f)",
+                plainHeap, heapPerEntity, (double) heapPerEntity / plainHeap,
+                plainFlush, flushMillis, flushMillis / plainFlush);
+
+        assertTrue(flushMillis < plainFlush,
+                String.format("enhanced flush %.2f ms is not faster than -PnoEnhance %.2f ms", flushMillis, plainFlush));
+    }
+
+    private static void store(String mode, long heapPerEntity, double flushMillis) {
+        Properties result = new Properties();
+        result.setProperty("heapPerEntity", String.valueOf(heapPerEntity));
+        result.setProperty("flushMillis", String.valueOf(flushMillis));
+        try {
+            Files.createDirectories(resultsDir());
+            try (Writer out = Files.newBufferedWriter(resultsDir().resolve("flush-" + mode + ".properties"))) {
+                result.store(out, "FlushBenchmarkTest " + MEMBERS + " members");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path resultsDir() {
+        return Paths.get(System.getProperty("benchmark.results-dir", "build/benchmark-results"));
+    }
+}
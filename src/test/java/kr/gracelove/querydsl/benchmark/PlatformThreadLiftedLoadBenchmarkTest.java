@@ -0,0 +1,35 @@
+package kr.gracelove.querydsl.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 커넥션 풀과 bulkhead 를 키운 플랫폼 스레드. 같은 설정의 VirtualThreadLiftedLoadBenchmarkTest 와 비교한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:platform-lifted-load-benchmark;DB_CLOSE_DELAY=-1")
+@TestPropertySource(locations = "classpath:benchmark-lifted-limits.properties")
+class PlatformThreadLiftedLoadBenchmarkTest extends PlatformThreadLoadBenchmarkTest {
+
+    @Override
+    String mode() {
+        return "platform threads, lifted limits";
+    }
+
+    @Override
+    boolean liftedLimits() {
+        return true;
+    }
+}
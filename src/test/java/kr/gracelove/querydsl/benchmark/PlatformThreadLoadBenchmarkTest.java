@@ -0,0 +1,25 @@
+package kr.gracelove.querydsl.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:platform-load-benchmark;DB_CLOSE_DELAY=-1")
+class PlatformThreadLoadBenchmarkTest extends RequestLoadBenchmark {
+
+    @Override
+    String mode() {
+        return "platform threads";
+    }
+}
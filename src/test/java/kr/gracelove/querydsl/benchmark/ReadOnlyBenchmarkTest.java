@@ -0,0 +1,111 @@
+package kr.gracelove.querydsl.benchmark;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.repository.ReadOnlyQueryFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static kr.gracelove.querydsl.benchmark.BenchmarkSupport.*;
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * Member 10만건 조회 시 일반 조회 vs read-only 조회의 힙 사용량, flush 시간 비교.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:read-only-benchmark;DB_CLOSE_DELAY=-1",
+        "logging.level.org.hibernate.SQL=info"
+})
+class ReadOnlyBenchmarkTest {
+
+    static final int TEAMS = 100;
+    static final int MEMBERS = 100_000;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    ReadOnlyQueryFactory readOnlyQueryFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (queryFactory.selectFrom(member).fetchCount() == 0) {
+                seedMembers(em, TEAMS, MEMBERS);
+            }
+        });
+    }
+
+    @Test
+    void readWriteQuery() {
+        measure("read-write", () -> queryFactory.selectFrom(member).fetch(), false);
+    }
+
+    @Test
+    void readOnlyQuery() {
+        measure("read-only hint", () -> readOnlyQueryFactory.selectFrom(member).fetch(), true);
+    }
+
+    @Test
+    void readOnlyTransaction() {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        measure(readOnlyTransaction, "read-only tx", () -> queryFactory.selectFrom(member).fetch(), true);
+    }
+
+    private void measure(String label, Supplier<List<Member>> query, boolean expectReadOnly) {
+        measure(transactionTemplate, label, query, expectReadOnly);
+    }
+
+    private void measure(TransactionTemplate transaction, String label,
+                         Supplier<List<Member>> query, boolean expectReadOnly) {
+        transaction.executeWithoutResult(status -> {
+            long before = usedHeapAfterGc();
+            List<Member> members = query.get();
+            long after = usedHeapAfterGc();
+            double flushMillis = millis(em::flush);
+
+            report("%s rows=%d heap=%d KB (%d bytes/row) flush=%.2f ms",
+                    label,
+                    members.size(),
+                    (after - before) / 1024,
+                    (after - before) / members.size(),
+                    flushMillis);
+
+            assertEquals(MEMBERS, members.size());
+            assertEquals(expectReadOnly, em.unwrap(Session.class).isReadOnly(members.get(0)));
+        });
+    }
+}
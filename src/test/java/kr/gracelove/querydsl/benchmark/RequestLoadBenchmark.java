@@ -0,0 +1,215 @@
+package kr.gracelove.querydsl.benchmark;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.gracelove.querydsl.admission.AdmissionControl;
+import kr.gracelove.querydsl.admission.AdmissionMetrics;
+import kr.gracelove.querydsl.admission.QueryClass;
+import kr.gracelove.querydsl.cache.MemberLookupCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static kr.gracelove.querydsl.benchmark.BenchmarkSupport.*;
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 실제 엔드포인트에 동시 CLIENTS 명이 REQUESTS 번 요청했을 때 처리량, p50, p99 지연, 응답 코드별 개수.
+ * 플랫폼 스레드(톰캣 기본 200개)와 가상 스레드 설정을 하위 클래스로 나눠 같은 부하를 건다.
+ * <ul>
+ *     <li>/members/lookup : LOOKUP bulkhead -> 읽기 전용 트랜잭션 -> QueryDSL 단건 조회.
+ *     캐시는 꺼서(maximum-size 0) 매번 DB로 간다.</li>
+ *     <li>/members : PAGED bulkhead -> 페이징 조회와 count 쿼리.</li>
+ * </ul>
+ * 둘 다 블로킹 JDBC 라 동시에 도는 요청 수는 요청 스레드가 아니라 bulkhead 의 max-concurrent 와 커넥션 풀이 정한다.
+ * 나머지는 bulkhead 큐에서 기다리거나 503 으로 거절된다. 그래서 기본 설정에서는 스레드 종류를 바꿔도 숫자가 거의 같은 게 정상이다.
+ * *LiftedLoadBenchmarkTest 는 benchmark-lifted-limits.properties 로 풀과 bulkhead 를 키워서 그 다음 병목을 본다.
+ * 보고 줄에 그때의 max-concurrent 와 풀 크기를 같이 찍는다.
+ */
+@TestPropertySource(properties = {
+        "cache.member-lookup.maximum-size=0",
+        "logging.level.org.hibernate.SQL=info"
+})
+abstract class RequestLoadBenchmark {
+
+    static final int TEAMS = 10;
+    static final int MEMBERS = 10_000;
+    static final int PAGE_SIZE = 20;
+    static final int CLIENTS = 400;
+    static final int WARMUP_REQUESTS = 4_000;
+    static final int REQUESTS = 40_000;
+
+    @LocalServerPort
+    int port;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    AdmissionControl admissionControl;
+
+    @Autowired
+    MemberLookupCache lookupCache;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    int poolSize;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (queryFactory.selectFrom(member).fetchCount() == 0) {
+                seedMembers(em, TEAMS, MEMBERS);
+            }
+        });
+    }
+
+    abstract String mode();
+
+    /**
+     * 한도를 올린 변형이면 true. 그때는 503 도 없어야 한다.
+     */
+    boolean liftedLimits() {
+        return false;
+    }
+
+    @Test
+    void lookupUnderLoad() throws InterruptedException {
+        long loads = lookupCache.metrics().getLoads();
+
+        run(QueryClass.LOOKUP, () -> "/members/lookup?username=member" + ThreadLocalRandom.current().nextInt(MEMBERS));
+
+        // 캐시를 껐으니 200 마다 DB 조회가 한번씩 있어야 한다.
+        report("%s : LOOKUP cache loads %d", mode(), lookupCache.metrics().getLoads() - loads);
+    }
+
+    @Test
+    void pagedUnderLoad() throws InterruptedException {
+        int pages = MEMBERS / TEAMS / PAGE_SIZE;
+
+        run(QueryClass.PAGED, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return "/members?teamName=team" + random.nextInt(TEAMS)
+                    + "&offset=" + random.nextInt(pages) * PAGE_SIZE + "&limit=" + PAGE_SIZE;
+        });
+    }
+
+    private void run(QueryClass queryClass, Supplier<String> paths) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        send(client, paths, new Outcome(WARMUP_REQUESTS));
+
+        AdmissionMetrics before = admissionControl.metrics(queryClass);
+        Outcome outcome = new Outcome(REQUESTS);
+        long start = System.nanoTime();
+        send(client, paths, outcome);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        AdmissionMetrics after = admissionControl.metrics(queryClass);
+
+        long[] latencies = outcome.latencies;
+        Arrays.sort(latencies);
+        report("%s : %s %d requests, %d clients, %.0f req/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms"
+                        + " | 200 %d, 503 %d, other %d | bulkhead %d + queue %d, pool %d, timed out %d",
+                mode(), queryClass, REQUESTS, CLIENTS, REQUESTS / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1_000_000.0,
+                outcome.ok.get(), outcome.rejected.get(), outcome.other.get(),
+                after.getMaxConcurrent(), after.getMaxQueue(), poolSize, after.getTimedOut() - before.getTimedOut());
+
+        assertEquals(0, outcome.other.get());
+        if (liftedLimits()) {
+            assertEquals(0, outcome.rejected.get());
+        }
+    }
+
+    /**
+     * 클라이언트는 플랫폼 스레드. 요청마다 지연을 ns 로 남긴다.
+     */
+    private void send(HttpClient client, Supplier<String> paths, Outcome outcome) throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            clients.execute(() -> {
+                for (int i = next.getAndIncrement(); i < outcome.latencies.length; i = next.getAndIncrement()) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + paths.get()))
+                            .timeout(Duration.ofSeconds(30))
+                            .build();
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        outcome.count(response.statusCode());
+                    } catch (Exception e) {
+                        outcome.other.incrementAndGet();
+                    }
+                    outcome.latencies[i] = System.nanoTime() - start;
+                }
+            });
+        }
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(5, TimeUnit.MINUTES));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * 503 은 bulkhead 가 거절한 것. 그 밖의 코드와 예외는 other.
+     */
+    private static class Outcome {
+
+        private final long[] latencies;
+        private final AtomicInteger ok = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final AtomicInteger other = new AtomicInteger();
+
+        Outcome(int requests) {
+            this.latencies = new long[requests];
+        }
+
+        void count(int status) {
+            if (status == 200) {
+                ok.incrementAndGet();
+            } else if (status == 503) {
+                rejected.incrementAndGet();
+            } else {
+                other.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package kr.gracelove.querydsl.benchmark;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.scan.ParallelMemberScanner;
+import kr.gracelove.querydsl.scan.ScanOrder;
+import kr.gracelove.querydsl.scan.ScanResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import static kr.gracelove.querydsl.benchmark.BenchmarkSupport.*;
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 회원 20만건 전체 읽기. 커넥션 하나로 selectFrom(member).fetch() vs 범위 나눠서 병렬 스캔.
+ * 인메모리 H2 라 디스크 I/O 가 없어서 실제 DB 보다 차이가 작게 나온다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:scan-benchmark;DB_CLOSE_DELAY=-1",
+        "logging.level.org.hibernate.SQL=info"
+})
+class ScanBenchmarkTest {
+
+    static final int TEAMS = 100;
+    static final int MEMBERS = 200_000;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    ParallelMemberScanner scanner;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (queryFactory.selectFrom(member).fetchCount() == 0) {
+                seedMembers(em, TEAMS, MEMBERS);
+            }
+        });
+    }
+
+    @Test
+    void fullScan() {
+        for (int round = 0; round < 3; round++) { // 첫 판은 워밍업
+            report("round %d, parallelism %d", round, scanner.getParallelism());
+
+            List<Member> all = timed("single connection fetch", () -> transactionTemplate.execute(status -> {
+                List<Member> fetched = queryFactory.selectFrom(member).fetch();
+                em.clear();
+                return fetched;
+            }));
+            assertEquals(MEMBERS, all.size());
+
+            for (ScanOrder order : ScanOrder.values()) {
+                LongAdder ages = new LongAdder();
+                ScanResult result = scanner.scan(member, null, order, m -> ages.add(m.getAge()));
+                report("parallel scan %s : %s", order, result);
+                assertEquals(MEMBERS, result.getRows());
+            }
+        }
+    }
+}
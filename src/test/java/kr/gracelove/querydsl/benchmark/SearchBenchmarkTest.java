@@ -0,0 +1,103 @@
+package kr.gracelove.querydsl.benchmark;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.search.MatchMode;
+import kr.gracelove.querydsl.search.MemberSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static kr.gracelove.querydsl.benchmark.BenchmarkSupport.*;
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * username 검색. like '%q%' 전체 스캔 vs n-gram 색인 + id in (...) 조회.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-benchmark;DB_CLOSE_DELAY=-1",
+        "logging.level.org.hibernate.SQL=info"
+})
+class SearchBenchmarkTest {
+
+    static final int TEAMS = 100;
+    static final int MEMBERS = 100_000;
+    static final int ROUNDS = 50;
+    static final String[] QUERIES = {"ber4242", "99999", "ember1234", "R777"};
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    MemberSearchIndex searchIndex;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (queryFactory.selectFrom(member).fetchCount() == 0) {
+                seedMembers(em, TEAMS, MEMBERS);
+            }
+        });
+        timed("index rebuild", () -> {
+            searchIndex.rebuild();
+            return null;
+        });
+    }
+
+    @Test
+    void likeVersusIndex() {
+        for (String query : QUERIES) {
+            double like = averageMillis(() -> search(member.username.containsIgnoreCase(query)));
+            double index = averageMillis(() -> search(searchIndex.usernameMatches(query, MatchMode.CONTAINS)));
+            double idsOnly = averageMillis(() -> searchIndex.searchMemberIds(query, MatchMode.CONTAINS));
+
+            report("contains '%s' rows=%d like=%.3f ms index+fetch=%.3f ms index ids=%.3f ms",
+                    query, search(member.username.containsIgnoreCase(query)).size(), like, index, idsOnly);
+            assertEquals(search(member.username.containsIgnoreCase(query)).size(),
+                    search(searchIndex.usernameMatches(query, MatchMode.CONTAINS)).size());
+        }
+    }
+
+    private List<Member> search(Predicate where) {
+        return transactionTemplate.execute(status -> queryFactory
+                .selectFrom(member)
+                .where(where)
+                .fetch());
+    }
+
+    private static double averageMillis(Supplier<?> task) {
+        task.get(); // warm up
+        return millis(() -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                task.get();
+            }
+        }) / ROUNDS;
+    }
+}
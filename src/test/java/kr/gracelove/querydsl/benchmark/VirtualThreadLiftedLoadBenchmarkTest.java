@@ -0,0 +1,38 @@
+package kr.gracelove.querydsl.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 커넥션 풀과 bulkhead 를 키운 가상 스레드. JDK 21 이상에서만 돈다.
+ * ConnectionLimitingDataSource 도 커진 풀 크기를 따라간다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:virtual-lifted-load-benchmark;DB_CLOSE_DELAY=-1",
+        "threads.virtual.enabled=true"
+})
+@TestPropertySource(locations = "classpath:benchmark-lifted-limits.properties")
+class VirtualThreadLiftedLoadBenchmarkTest extends VirtualThreadLoadBenchmarkTest {
+
+    @Override
+    String mode() {
+        return "virtual threads, lifted limits";
+    }
+
+    @Override
+    boolean liftedLimits() {
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package kr.gracelove.querydsl.benchmark;
+
+import kr.gracelove.querydsl.config.ConnectionLimitingDataSource;
+import kr.gracelove.querydsl.config.VirtualThreads;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * JDK 21 이상에서만 돈다. ./gradlew benchmark -Pjdk21Home=/path/to/jdk-21
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:virtual-load-benchmark;DB_CLOSE_DELAY=-1",
+        "threads.virtual.enabled=true"
+})
+class VirtualThreadLoadBenchmarkTest extends RequestLoadBenchmark {
+
+    @Autowired
+    DataSource dataSource;
+
+    @BeforeAll
+    static void requireVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads need JDK 21+");
+    }
+
+    @Override
+    String mode() {
+        return "virtual threads";
+    }
+
+    @Test
+    void dataSourceIsLimitedToPoolSize() {
+        assertTrue(dataSource instanceof ConnectionLimitingDataSource);
+        assertEquals(poolSize, ((ConnectionLimitingDataSource) dataSource).getLimit());
+    }
+}
@@ -0,0 +1,152 @@
+package kr.gracelove.querydsl.cache;
+
+import kr.gracelove.querydsl.admission.AdmissionControl;
+import kr.gracelove.querydsl.admission.QueryClass;
+import kr.gracelove.querydsl.changefeed.ChangeFeed;
+import kr.gracelove.querydsl.dto.MemberLookupDto;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import kr.gracelove.querydsl.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static kr.gracelove.querydsl.changefeed.ChangeFeedAwait.awaitDelivered;
+import static kr.gracelove.querydsl.changefeed.ChangeFeedAwait.awaitTrue;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 무효화는 체인지피드로 온다. (ChangeFeedAwait)
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:lookup-cache-test;DB_CLOSE_DELAY=-1")
+class MemberLookupCacheTest {
+
+    @Autowired
+    MemberLookupCache cache;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ChangeFeed changeFeed;
+
+    @Autowired
+    AdmissionControl admissionControl;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Test
+    void negativeCacheIsInvalidatedByPersist() throws InterruptedException {
+        assertFalse(cache.findByUsername("lookup1").isPresent());
+        long misses = cache.stats().missCount();
+        assertFalse(cache.findByUsername("lookup1").isPresent());
+        assertEquals(misses, cache.stats().missCount()); // 없는 것도 캐시된다.
+
+        transactionTemplate.executeWithoutResult(status -> em.persist(new Member("lookup1", 10)));
+
+        awaitTrue(() -> cache.findByUsername("lookup1").isPresent());
+    }
+
+    @Test
+    void changeTeamInvalidates() throws InterruptedException {
+        Long memberId = transactionTemplate.execute(status -> {
+            Team teamA = new Team("lookupTeamA");
+            em.persist(teamA);
+            Member lookup2 = new Member("lookup2", 20, teamA);
+            em.persist(lookup2);
+            return lookup2.getId();
+        });
+        Long teamAId = cache.findByUsername("lookup2").map(MemberLookupDto::getTeamId).orElseThrow(AssertionError::new);
+
+        Long teamBId = transactionTemplate.execute(status -> {
+            Team teamB = new Team("lookupTeamB");
+            em.persist(teamB);
+            em.find(Member.class, memberId).changeTeam(teamB);
+            return teamB.getId();
+        });
+
+        assertNotEquals(teamAId, teamBId);
+        awaitTrue(() -> teamBId.equals(cache.findByUsername("lookup2").map(MemberLookupDto::getTeamId).orElse(null)));
+    }
+
+    @Test
+    void bulkUpdateInvalidatesEverything() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> em.persist(new Member("lookup3", 3)));
+        awaitTrue(() -> cache.findByUsername("lookup3").isPresent());
+
+        memberRepository.bulkUpdateUsername("lookupRenamed", 4);
+
+        awaitTrue(() -> !cache.findByUsername("lookup3").isPresent());
+        assertTrue(cache.findByUsername("lookupRenamed").isPresent());
+    }
+
+    /**
+     * /members/lookup 처럼 읽기 전용 트랜잭션 안에서 리포지토리로 찾아도 캐시를 쓴다.
+     */
+    @Test
+    void repositoryLookupInsideAdmissionUsesCache() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> em.persist(new Member("lookup5", 50)));
+        awaitTrue(() -> lookup("lookup5").isPresent());
+
+        long hits = cache.metrics().getHits();
+        long loads = cache.metrics().getLoads();
+        assertEquals(50, lookup("lookup5").map(MemberLookupDto::getAge).orElse(0));
+
+        assertEquals(hits + 1, cache.metrics().getHits());
+        assertEquals(loads, cache.metrics().getLoads());
+    }
+
+    @Test
+    void concurrentMissesHitDatabaseOnce() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> em.persist(new Member("lookup4", 40)));
+        awaitDelivered(changeFeed); // insert 이벤트 무효화가 끝난 뒤에 센다.
+
+        long loads = cache.stats().loadCount();
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Optional<MemberLookupDto>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.findByUsername("lookup4");
+            }));
+        }
+        start.countDown();
+        for (Future<Optional<MemberLookupDto>> result : results) {
+            assertTrue(result.get().isPresent());
+        }
+        executor.shutdown();
+
+        assertEquals(loads + 1, cache.stats().loadCount());
+    }
+
+    private Optional<MemberLookupDto> lookup(String username) {
+        return admissionControl.execute(QueryClass.LOOKUP, () -> memberRepository.findByUsername(username));
+    }
+}
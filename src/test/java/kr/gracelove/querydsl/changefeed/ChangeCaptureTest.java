@@ -0,0 +1,141 @@
+package kr.gracelove.querydsl.changefeed;
+
+import kr.gracelove.querydsl.entity.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static kr.gracelove.querydsl.changefeed.ChangeFeedAwait.awaitDelivered;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * HibernateChangeListener -> ChangeCapture -> ChangeFeed 를 실제 트랜잭션으로 확인한다.
+ * 한 트랜잭션에 64개 넘게 모이면 벌크 이벤트로 바뀐다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:change-capture-test;DB_CLOSE_DELAY=-1",
+        "changefeed.capacity=64"
+})
+class ChangeCaptureTest {
+
+    @Autowired
+    ChangeFeed changeFeed;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    EntityManager em;
+
+    final List<ChangeEvent> received = new CopyOnWriteArrayList<>();
+    final ChangeFeedListener recorder = received::addAll;
+
+    @BeforeEach
+    void subscribe() throws InterruptedException {
+        awaitDelivered(changeFeed);
+        changeFeed.subscribe(recorder);
+    }
+
+    @AfterEach
+    void unsubscribe() {
+        changeFeed.unsubscribe(recorder);
+    }
+
+    @Test
+    void publishesOnlyAfterCommit() throws InterruptedException {
+        long published = changeFeed.metrics().getPublished();
+
+        Long memberId = transactionTemplate.execute(status -> {
+            Member member = new Member("captureCommitted", 10);
+            em.persist(member);
+            em.flush();
+            assertEquals(published, changeFeed.metrics().getPublished()); // insert 는 나갔지만 아직 커밋 전
+            return member.getId();
+        });
+
+        awaitDelivered(changeFeed);
+        assertThat(received).extracting(ChangeEvent::getType, ChangeEvent::getId)
+                .containsExactly(tuple(ChangeType.INSERTED, memberId));
+    }
+
+    @Test
+    void rollbackPublishesNothing() throws InterruptedException {
+        long published = changeFeed.metrics().getPublished();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            em.persist(new Member("captureRolledBack", 20));
+            em.flush();
+            status.setRollbackOnly();
+        });
+
+        awaitDelivered(changeFeed);
+        assertEquals(published, changeFeed.metrics().getPublished());
+        assertThat(received).isEmpty();
+    }
+
+    /**
+     * 안쪽 REQUIRES_NEW 는 바깥이 롤백돼도 자기 커밋에 자기 이벤트만 보낸다.
+     */
+    @Test
+    void requiresNewPublishesOnItsOwnCommit() throws InterruptedException {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Long innerId = transactionTemplate.execute(status -> {
+            em.persist(new Member("captureOuter", 30));
+            em.flush();
+            Long id = requiresNew.execute(inner -> {
+                Member member = new Member("captureInner", 31);
+                em.persist(member);
+                return member.getId();
+            });
+            status.setRollbackOnly();
+            return id;
+        });
+
+        awaitDelivered(changeFeed);
+        assertThat(received).extracting(ChangeEvent::getType, ChangeEvent::getId)
+                .containsExactly(tuple(ChangeType.INSERTED, innerId));
+    }
+
+    @Test
+    void oversizedTransactionBecomesBulk() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 100; i++) {
+                em.persist(new Member("captureMany" + i, 40));
+            }
+        });
+
+        awaitDelivered(changeFeed);
+        assertEquals(1, received.size());
+        ChangeEvent bulk = received.get(0);
+        assertTrue(bulk.isBulk());
+        assertTrue(bulk.concerns(Member.class));
+        assertNull(bulk.getPredicate());
+    }
+}
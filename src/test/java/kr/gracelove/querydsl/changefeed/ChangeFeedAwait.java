@@ -0,0 +1,52 @@
+package kr.gracelove.querydsl.changefeed;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 체인지피드 구독자(캐시, 색인, 집계)를 테스트할 때 쓰는 대기 도구.
+ * <p>
+ * 구독자는 afterCommit 뒤에 디스패처 스레드에서 비동기로 따라온다. 그래서 이런 테스트는 테스트 트랜잭션(롤백) 대신
+ * TransactionTemplate 으로 실제로 커밋하고, 반영될 때까지 여기서 기다린다.
+ */
+public final class ChangeFeedAwait {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private ChangeFeedAwait() {
+    }
+
+    /**
+     * 5초 안에 true 가 안 되면 실패.
+     */
+    public static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("condition not met in 5 seconds");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 지금까지 보낸 이벤트를 구독자가 다 받을 때까지 기다린다.
+     */
+    public static void awaitDelivered(ChangeFeed changeFeed) throws InterruptedException {
+        awaitTrue(() -> {
+            ChangeFeedMetrics metrics = changeFeed.metrics();
+            return metrics.getDelivered() == metrics.getPublished();
+        });
+    }
+}
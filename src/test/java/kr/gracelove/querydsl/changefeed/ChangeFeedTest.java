@@ -0,0 +1,159 @@
+package kr.gracelove.querydsl.changefeed;
+
+import kr.gracelove.querydsl.entity.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+class ChangeFeedTest {
+
+    ChangeFeed changeFeed;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (changeFeed != null) {
+            changeFeed.stop();
+        }
+    }
+
+    @Test
+    void ringBufferRejectsWhenFull() {
+        ChangeRingBuffer buffer = new ChangeRingBuffer(3); // 4로 올림
+
+        for (long i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(ChangeEvent.deleted(Member.class, i, null, null)));
+        }
+        assertFalse(buffer.offer(ChangeEvent.deleted(Member.class, 4L, null, null)));
+
+        List<ChangeEvent> sink = new ArrayList<>();
+        assertEquals(4, buffer.drainTo(sink, 10));
+        assertThat(sink).extracting("id").containsExactly(0L, 1L, 2L, 3L);
+        assertEquals(0, buffer.size());
+
+        // 비웠으니 다시 들어간다.
+        assertTrue(buffer.offer(ChangeEvent.deleted(Member.class, 5L, null, null)));
+    }
+
+    @Test
+    void concurrentProducersLoseNothing() throws InterruptedException {
+        changeFeed = new ChangeFeed(1 << 16, 128);
+        int producers = 4;
+        int perProducer = 10_000;
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+        changeFeed.subscribe(events -> {
+            if (received.addAndGet(events.size()) == producers * perProducer) {
+                done.countDown();
+            }
+        });
+        changeFeed.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            executor.submit(() -> {
+                for (long i = 0; i < perProducer; i++) {
+                    changeFeed.publish(ChangeEvent.deleted(Member.class, i, null, null));
+                }
+            });
+        }
+        executor.shutdown();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        ChangeFeedMetrics metrics = changeFeed.metrics();
+        assertEquals(producers * perProducer, metrics.getPublished());
+        assertEquals(0, metrics.getDropped());
+        assertThat(metrics.getMaxBatchSize()).isLessThanOrEqualTo(128);
+    }
+
+    @Test
+    void overflowIsCountedAndReported() throws InterruptedException {
+        changeFeed = new ChangeFeed(2, 16);
+        for (int i = 0; i < 5; i++) {
+            changeFeed.publish(ChangeEvent.bulk(Member.class, member.age.lt(30)));
+        }
+        assertEquals(2, changeFeed.metrics().getPublished());
+        assertEquals(3, changeFeed.metrics().getDropped());
+
+        CountDownLatch overflow = new CountDownLatch(1);
+        changeFeed.subscribe(new ChangeFeedListener() {
+            @Override
+            public void onChanges(List<ChangeEvent> events) {
+            }
+
+            @Override
+            public void onOverflow() {
+                overflow.countDown();
+            }
+        });
+        changeFeed.start();
+
+        assertTrue(overflow.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * 디스패처를 시작하지 않아도 벌크 이벤트는 보내는 자리에서 알린다.
+     */
+    @Test
+    void bulkIsAnnouncedOnPublishingThread() {
+        changeFeed = new ChangeFeed(16, 16);
+        List<ChangeEvent> announced = new ArrayList<>();
+        changeFeed.subscribe(new ChangeFeedListener() {
+            @Override
+            public void onChanges(List<ChangeEvent> events) {
+            }
+
+            @Override
+            public void onBulkPublished(ChangeEvent event) {
+                announced.add(event);
+            }
+        });
+
+        changeFeed.publish(ChangeEvent.deleted(Member.class, 1L, null, null));
+        ChangeEvent bulk = ChangeEvent.bulk(Member.class, member.age.lt(30));
+        changeFeed.publish(bulk);
+
+        assertThat(announced).containsExactly(bulk);
+        assertEquals(2, changeFeed.metrics().getPublished());
+        assertEquals(0, changeFeed.metrics().getDelivered());
+    }
+
+    /**
+     * 두 트랜잭션이 v1, v2 로 커밋했는데 v2 가 먼저 도착한 경우.
+     */
+    @Test
+    void entityVersionsDropLateEvents() {
+        EntityVersions versions = new EntityVersions();
+        versions.seed(Member.class, 1L, 0L);
+
+        assertFalse(versions.advance(ChangeEvent.inserted(Member.class, 1L, 0L, null)));
+        assertTrue(versions.advance(ChangeEvent.updated(Member.class, 1L, 2L, null, null)));
+        assertFalse(versions.advance(ChangeEvent.updated(Member.class, 1L, 1L, null, null)));
+
+        assertTrue(versions.advance(ChangeEvent.deleted(Member.class, 1L, 2L, null)));
+        assertFalse(versions.advance(ChangeEvent.updated(Member.class, 1L, 2L, null, null))); // 지운 행은 안 살아난다.
+
+        assertTrue(versions.advance(ChangeEvent.updated(Member.class, 2L, 5L, null, null)));
+        assertTrue(versions.advance(ChangeEvent.bulk(Member.class, null)));
+    }
+}
@@ -0,0 +1,47 @@
+package kr.gracelove.querydsl.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:member-controller-test;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class MemberControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    /**
+     * 음수가 QueryDSL 까지 가면 IllegalArgumentException 으로 500 이 된다. 그 전에 400.
+     */
+    @Test
+    void invalidPagingIsBadRequest() throws Exception {
+        mockMvc.perform(get("/members").param("offset", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/members").param("limit", "-5"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/members").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void validPagingIsOk() throws Exception {
+        mockMvc.perform(get("/members").param("offset", "0").param("limit", "500"))
+                .andExpect(status().isOk());
+    }
+}
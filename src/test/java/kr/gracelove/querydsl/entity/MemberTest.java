@@ -644,6 +644,34 @@ class MemberTest {
     }
 
 
+    /**
+     * 팀 변경. 바이트코드 향상(연관관계 관리)이 켜져 있어도 팀 컬렉션에 두번 들어가면 안된다.
+     */
+    @Test
+    void changeTeam() {
+        Team teamB = queryFactory.selectFrom(team).where(team.name.eq("teamB")).fetchOne();
+        Member member1 = queryFactory.selectFrom(member).where(member.username.eq("member1")).fetchOne();
+
+        member1.changeTeam(teamB);
+
+        assertEquals(teamB, member1.getTeam());
+        assertEquals(1, teamB.getMembers().stream().filter(m -> m == member1).count());
+
+        em.flush();
+        em.clear();
+
+        Member findMember = queryFactory
+                .selectFrom(member)
+                .join(member.team, team).fetchJoin()
+                .where(member.username.eq("member1"))
+                .fetchOne();
+
+        assertEquals("teamB", findMember.getTeam().getName());
+        assertThat(findMember.getTeam().getMembers())
+                .extracting("username")
+                .containsExactlyInAnyOrder("member1", "member3", "member4");
+    }
+
     /**
      * 수정, 삭제 벌크 연산
      * 쿼리 한번으로 대량의 데이터 수정.
@@ -694,4 +722,22 @@ class MemberTest {
         fetch2.forEach(System.out::println);
 
     }
+
+    /**
+     * 초기화 안 된 team.members 에 add 하면 로딩하지 않고 쌓아뒀다가 초기화할 때 합친다.
+     * 바이트코드 향상(association management)이 같이 넣어도 한번만 들어가야 한다.
+     */
+    @Test
+    void changeTeamAddsOnceToLazyMembers() {
+        em.flush();
+        em.clear();
+
+        Member member1 = queryFactory.selectFrom(member).where(member.username.eq("member1")).fetchOne();
+        Team teamB = queryFactory.selectFrom(team).where(team.name.eq("teamB")).fetchOne();
+        member1.changeTeam(teamB);
+
+        assertThat(teamB.getMembers())
+                .extracting(Member::getUsername)
+                .containsExactlyInAnyOrder("member1", "member3", "member4");
+    }
 }
\ No newline at end of file
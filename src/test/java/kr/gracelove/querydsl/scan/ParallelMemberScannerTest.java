@@ -0,0 +1,113 @@
+package kr.gracelove.querydsl.scan;
+
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 스캔은 자기 커넥션으로 읽으므로 데이터는 커밋해 둔다.
+ * 페이지를 작게 잡아서 범위 하나에 페이지가 여러개 나오게 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:scan-test;DB_CLOSE_DELAY=-1",
+        "scan.parallelism=4",
+        "scan.page-size=7",
+        "scan.ranges-per-thread=3",
+        "scan.queue-pages=2"
+})
+class ParallelMemberScannerTest {
+
+    static final int MEMBERS = 1_000;
+
+    @Autowired
+    ParallelMemberScanner scanner;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Long count = em.createQuery("select count(m) from Member m", Long.class).getSingleResult();
+            if (count > 0) {
+                return;
+            }
+            Team teamA = new Team("teamA");
+            em.persist(teamA);
+            for (int i = 0; i < MEMBERS; i++) {
+                em.persist(new Member("member" + i, i % 100, i % 2 == 0 ? teamA : null));
+            }
+        });
+    }
+
+    @Test
+    void orderedScanReturnsEveryMemberInIdOrder() {
+        List<Long> ids = new ArrayList<>();
+        ScanResult result = scanner.scan(member.id, null, ScanOrder.ORDERED, ids::add);
+
+        assertEquals(MEMBERS, result.getRows());
+        assertEquals(12, result.getRanges());
+        assertThat(ids).hasSize(MEMBERS).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void unorderedScanReturnsEveryMember() {
+        List<Member> members = new ArrayList<>();
+        scanner.scan(member, null, ScanOrder.UNORDERED, members::add);
+
+        assertThat(members).extracting(Member::getId).hasSize(MEMBERS).doesNotHaveDuplicates();
+        assertThat(members).extracting(Member::getUsername).contains("member0", "member999");
+    }
+
+    @Test
+    void predicateAndProjection() {
+        List<String> usernames = new ArrayList<>();
+        ScanResult result = scanner.scan(member.username, member.age.goe(95), ScanOrder.ORDERED, usernames::add);
+
+        assertEquals(50, result.getRows());
+        assertThat(usernames).startsWith("member95", "member96").endsWith("member999");
+    }
+
+    @Test
+    void consumerFailureStopsScan() {
+        AtomicInteger seen = new AtomicInteger();
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> scanner.scan(member.id, null, ScanOrder.UNORDERED, id -> {
+                    if (seen.incrementAndGet() == 10) {
+                        throw new IllegalStateException("stop");
+                    }
+                }));
+
+        assertEquals("stop", e.getMessage());
+        // 일꾼 스레드가 풀려서 다음 스캔이 정상적으로 돈다.
+        assertEquals(MEMBERS, scanner.scan(member.id, null, ScanOrder.ORDERED, id -> {
+        }).getRows());
+    }
+}
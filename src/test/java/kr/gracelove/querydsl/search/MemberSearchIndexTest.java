@@ -0,0 +1,163 @@
+package kr.gracelove.querydsl.search;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import kr.gracelove.querydsl.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+import static kr.gracelove.querydsl.changefeed.ChangeFeedAwait.awaitTrue;
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static kr.gracelove.querydsl.entity.QTeam.team;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 색인은 체인지피드로 따라온다. (ChangeFeedAwait)
+ * in (...) 목록은 2개까지. 벌크연산 대상이 되지 않게 다른 테스트의 회원은 나이를 10 이상으로 둔다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-index-test;DB_CLOSE_DELAY=-1",
+        "search.max-in-list=2"
+})
+class MemberSearchIndexTest {
+
+    @Autowired
+    MemberSearchIndex searchIndex;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @BeforeEach
+    void awaitReady() throws InterruptedException {
+        awaitTrue(searchIndex::isReady);
+    }
+
+    @Test
+    void insertIsIndexed() throws InterruptedException {
+        Long memberId = transactionTemplate.execute(status -> {
+            Member inserted = new Member("searchInserted", 10);
+            em.persist(inserted);
+            return inserted.getId();
+        });
+
+        awaitTrue(() -> searchIndex.searchMemberIds("CHINSERT", MatchMode.CONTAINS).contains(memberId));
+        assertThat(memberRepository.searchByUsername("searchIns", MatchMode.PREFIX))
+                .extracting(Member::getId)
+                .containsExactly(memberId);
+    }
+
+    @Test
+    void changeTeamFollowsTeamName() throws InterruptedException {
+        Long memberId = transactionTemplate.execute(status -> {
+            Team teamA = new Team("searchTeamA");
+            em.persist(teamA);
+            Member moving = new Member("searchMoving", 20, teamA);
+            em.persist(moving);
+            return moving.getId();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            Team teamB = new Team("searchTeamB");
+            em.persist(teamB);
+            em.find(Member.class, memberId).changeTeam(teamB);
+        });
+
+        awaitTrue(() -> !searchIndex.searchTeamIds("searchTeamB", MatchMode.PREFIX).isEmpty());
+        assertThat(membersOfTeam("searchteamb")).containsExactly(memberId);
+        assertThat(membersOfTeam("searchteama")).isEmpty();
+    }
+
+    /**
+     * 벌크연산이 커밋되면 재구성이 끝날 때까지 like 로만 찾는다. 색인에 옛 이름이 남아있어도 옛 이름으로는 안 나오고,
+     * 새 이름으로는 바로 나온다.
+     */
+    @Test
+    void bulkUpdateNeverReturnsStaleRows() throws InterruptedException {
+        Long memberId = transactionTemplate.execute(status -> {
+            Member old = new Member("searchOld", 1);
+            em.persist(old);
+            return old.getId();
+        });
+        awaitTrue(() -> searchIndex.searchMemberIds("searchOld", MatchMode.PREFIX).contains(memberId));
+
+        memberRepository.bulkUpdateUsername("searchRenamed", 2);
+
+        assertThat(memberRepository.searchByUsername("searchOld", MatchMode.PREFIX)).isEmpty();
+        assertThat(memberRepository.searchByUsername("searchRenamed", MatchMode.PREFIX))
+                .extracting(Member::getId)
+                .containsExactly(memberId);
+
+        awaitTrue(searchIndex::isFresh);
+        awaitTrue(() -> searchIndex.searchMemberIds("searchRenamed", MatchMode.PREFIX).contains(memberId));
+        assertThat(memberRepository.searchByUsername("searchRenamed", MatchMode.PREFIX))
+                .extracting(Member::getId)
+                .containsExactly(memberId);
+    }
+
+    /**
+     * 네이티브 insert 는 체인지피드에 안 잡힌다. 피드 overflow 로 재구성되면 그때 보인다.
+     */
+    @Test
+    void overflowRebuildsFromDatabase() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> em
+                .createNativeQuery("insert into member (username, age, team_id, version) values ('searchHidden', 30, null, 0)")
+                .executeUpdate());
+        assertThat(searchIndex.searchMemberIds("searchHidden", MatchMode.PREFIX)).isEmpty();
+
+        searchIndex.onOverflow();
+
+        awaitTrue(() -> !searchIndex.searchMemberIds("searchHidden", MatchMode.PREFIX).isEmpty());
+        assertThat(memberRepository.searchByUsername("searchHidden", MatchMode.PREFIX)).hasSize(1);
+    }
+
+    /**
+     * in (...) 목록보다 많이 찾아도 결과를 자르지 않는다.
+     */
+    @Test
+    void moreMatchesThanInListAreNotCut() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 3; i++) {
+                em.persist(new Member("searchMany" + i, 40 + i));
+            }
+        });
+
+        awaitTrue(() -> searchIndex.searchMemberIds("searchMany", MatchMode.PREFIX).size() == 3);
+        List<Member> found = memberRepository.searchByUsername("SEARCHMANY", MatchMode.PREFIX);
+        assertThat(found).extracting(Member::getUsername).containsExactly("searchMany0", "searchMany1", "searchMany2");
+    }
+
+    private List<Long> membersOfTeam(String teamName) {
+        return transactionTemplate.execute(status -> queryFactory
+                .select(member.id)
+                .from(member)
+                .join(member.team, team)
+                .where(searchIndex.teamNameMatches(teamName, MatchMode.CONTAINS))
+                .fetch());
+    }
+}
@@ -0,0 +1,70 @@
+package kr.gracelove.querydsl.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+class NgramIndexTest {
+
+    NgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex();
+        index.put(1L, "member1");
+        index.put(2L, "member2");
+        index.put(3L, "Teammate");
+        index.put(4L, null);
+    }
+
+    @Test
+    void containsIgnoresCase() {
+        assertThat(index.search("MEM", MatchMode.CONTAINS, 10)).containsExactly(1L, 2L);
+        assertThat(index.search("m", MatchMode.CONTAINS, 10)).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("ber1", MatchMode.CONTAINS, 10)).containsExactly(1L);
+    }
+
+    /**
+     * 3글자 조각이 다 들어있어도 이어져 있지 않으면 걸러야 한다.
+     */
+    @Test
+    void longQueryIsVerifiedAgainstText() {
+        index.put(5L, "abcxbcd");
+
+        assertThat(index.search("abcd", MatchMode.CONTAINS, 10)).isEmpty();
+        assertThat(index.search("bcxb", MatchMode.CONTAINS, 10)).containsExactly(5L);
+    }
+
+    @Test
+    void prefix() {
+        assertThat(index.search("team", MatchMode.PREFIX, 10)).containsExactly(3L);
+        assertThat(index.search("mate", MatchMode.PREFIX, 10)).isEmpty();
+    }
+
+    @Test
+    void updateAndRemove() {
+        index.put(1L, "renamed");
+        index.remove(2L);
+
+        assertThat(index.search("member", MatchMode.CONTAINS, 10)).isEmpty();
+        assertThat(index.search("name", MatchMode.CONTAINS, 10)).containsExactly(1L);
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void limit() {
+        assertThat(index.search("", MatchMode.CONTAINS, 2)).containsExactly(1L, 2L);
+    }
+}
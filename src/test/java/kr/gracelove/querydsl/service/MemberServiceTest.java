@@ -0,0 +1,178 @@
+package kr.gracelove.querydsl.service;
+
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import kr.gracelove.querydsl.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 여러 스레드가 실제로 커밋하면서 부딪히게 한다. (테스트 트랜잭션 없음)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-service-test;DB_CLOSE_DELAY=-1",
+        "retry.optimistic.max-attempts=20",
+        "retry.optimistic.initial-backoff=1ms",
+        "retry.optimistic.max-backoff=20ms"
+})
+class MemberServiceTest {
+
+    static final int THREADS = 8;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    OptimisticRetry retry;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    EntityManager em;
+
+    /**
+     * 같은 회원의 나이를 동시에 1씩 올린다. 덮어쓰기가 있으면 성공한 횟수보다 나이가 덜 올라간다.
+     */
+    @Test
+    void concurrentUpdatesAreNotLost() throws Exception {
+        Long memberId = transactionTemplate.execute(status -> {
+            Member counter = new Member("counter", 0);
+            em.persist(counter);
+            return counter.getId();
+        });
+        int updatesPerThread = 25;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger gaveUp = new AtomicInteger();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < updatesPerThread; i++) {
+                try {
+                    memberService.update(memberId, m -> m.changeAge(m.getAge() + 1));
+                    succeeded.incrementAndGet();
+                } catch (OptimisticLockingFailureException e) {
+                    gaveUp.incrementAndGet();
+                }
+            }
+        });
+
+        Member counter = find(memberId);
+        assertEquals(THREADS * updatesPerThread, succeeded.get() + gaveUp.get());
+        assertEquals(succeeded.get(), counter.getAge());
+        assertEquals(succeeded.get(), counter.getVersion());
+        assertTrue(retry.getRetries() > 0, "threads should have collided at least once");
+        System.out.printf("succeeded %d, gave up %d, retries so far %d%n", succeeded.get(), gaveUp.get(), retry.getRetries());
+    }
+
+    /**
+     * 회원마다 다른 스레드가 같은 팀으로 옮긴다. 팀 version 을 안 올리므로 충돌이 없어야 한다.
+     */
+    @Test
+    void movesIntoHotTeamDoNotConflict() throws Exception {
+        int members = 200;
+        List<Long> memberIds = new ArrayList<>();
+        Long hotTeamId = transactionTemplate.execute(status -> {
+            Team coldTeam = new Team("coldTeam");
+            Team hotTeam = new Team("hotTeam");
+            em.persist(coldTeam);
+            em.persist(hotTeam);
+            for (int i = 0; i < members; i++) {
+                Member moving = new Member("moving" + i, i, coldTeam);
+                em.persist(moving);
+                memberIds.add(moving.getId());
+            }
+            return hotTeam.getId();
+        });
+        long retriesBefore = retry.getRetries();
+        AtomicInteger next = new AtomicInteger();
+
+        runConcurrently(() -> {
+            for (int i = next.getAndIncrement(); i < members; i = next.getAndIncrement()) {
+                memberService.changeTeam(memberIds.get(i), hotTeamId);
+            }
+        });
+
+        assertEquals(retriesBefore, retry.getRetries());
+        transactionTemplate.executeWithoutResult(status -> {
+            Team hotTeam = em.find(Team.class, hotTeamId);
+            assertEquals(0L, hotTeam.getVersion());
+            assertEquals(members, hotTeam.getMembers().size());
+        });
+    }
+
+    /**
+     * 벌크연산이 version 을 올리므로 그 전에 읽은 엔티티로는 덮어쓸 수 없다.
+     */
+    @Test
+    void bulkUpdateIncrementsVersion() {
+        Long memberId = transactionTemplate.execute(status -> {
+            Member young = new Member("young", 1);
+            em.persist(young);
+            return young.getId();
+        });
+        long before = find(memberId).getVersion();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            Member stale = em.find(Member.class, memberId);
+            memberRepository.bulkUpdateUsername("renamed", 2);
+            stale.changeAge(2);
+        }));
+
+        memberRepository.bulkUpdateUsername("renamed", 2);
+        Member renamed = find(memberId);
+        assertEquals("renamed", renamed.getUsername());
+        assertEquals(before + 1, renamed.getVersion());
+    }
+
+    private Member find(Long memberId) {
+        return transactionTemplate.execute(status -> em.find(Member.class, memberId));
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
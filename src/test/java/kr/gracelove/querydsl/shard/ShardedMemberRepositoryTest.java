@@ -0,0 +1,126 @@
+package kr.gracelove.querydsl.shard;
+
+import kr.gracelove.querydsl.analytics.AgeStats;
+import kr.gracelove.querydsl.entity.Member;
+import kr.gracelove.querydsl.entity.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static kr.gracelove.querydsl.entity.QTeam.team;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * 인메모리 H2 세 개를 샤드로 쓴다. 합친 결과가 DB 하나였을 때와 같아야 한다.
+ */
+class ShardedMemberRepositoryTest {
+
+    static final int SHARDS = 3;
+
+    ShardedMemberRepository repository;
+    List<Team> teams = new ArrayList<>();
+    List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            shards.add(Shard.open(i, "jdbc:h2:mem:shard" + i + ";DB_CLOSE_DELAY=-1", "sa", "", 4, "create"));
+        }
+        repository = new ShardedMemberRepository(shards);
+
+        for (int i = 0; i < 5; i++) {
+            teams.add(repository.createTeam("team" + (char) ('A' + i)));
+        }
+        // 팀마다 회원 수가 달라야 샤드별 평균의 평균과 진짜 평균이 달라진다.
+        for (int i = 0; i < 40; i++) {
+            Team memberTeam = teams.get(Math.min(i % 7, teams.size() - 1));
+            members.add(repository.createMember("member" + i, (i * 7) % 50, memberTeam.getId()));
+        }
+        members.add(repository.createMember("loner", 99, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void teamsAndMembersAreColocated() {
+        ShardMap shardMap = repository.getShardMap();
+        assertThat(teams.stream().map(t -> shardMap.shardOf(t.getId())).distinct()).hasSize(SHARDS);
+
+        for (Team t : teams) {
+            List<Member> found = repository.findByTeam(t.getId());
+            List<String> expected = members.stream()
+                    .filter(m -> m.getTeam() != null && m.getTeam().getId().equals(t.getId()))
+                    .map(Member::getUsername)
+                    .collect(Collectors.toList());
+            assertThat(found).extracting(Member::getUsername).containsExactlyElementsOf(expected);
+            assertThat(found).allMatch(m -> m.getTeam().getName().equals(t.getName()));
+            assertEquals(expected.size(), repository.countByTeam(t.getId()));
+        }
+    }
+
+    @Test
+    void idsDoNotCollide() {
+        assertThat(members.stream().map(Member::getId).distinct()).hasSize(members.size());
+        assertThrows(IllegalArgumentException.class, () -> repository.getShardMap().shardOf(SHARDS * ShardMap.ID_BLOCK + 1));
+    }
+
+    @Test
+    void countAndAverage() {
+        assertEquals(members.size(), repository.count());
+        assertEquals(members.stream().filter(m -> m.getAge() >= 20).count(), repository.count(member.age.goe(20)));
+
+        AgeStats stats = repository.ageStats();
+        int sum = members.stream().mapToInt(Member::getAge).sum();
+        assertEquals(members.size(), stats.getCount());
+        assertEquals(sum, stats.getSum());
+        assertEquals((double) sum / members.size(), stats.getAvg());
+        assertEquals(0, stats.getMin());
+        assertEquals(99, stats.getMax());
+
+        assertEquals(AgeStats.EMPTY, repository.ageStats(member.age.gt(1000)));
+    }
+
+    @Test
+    void pagingIsGloballySorted() {
+        Comparator<Member> byAgeDescThenUsername = Comparator.comparing(Member::getAge).reversed()
+                .thenComparing(Member::getUsername)
+                .thenComparing(Member::getId);
+        List<Member> expected = members.stream().sorted(byAgeDescThenUsername).collect(Collectors.toList());
+
+        for (int offset = 0; offset < expected.size(); offset += 7) {
+            List<Member> page = repository.findPage(null, offset, 7, member.age.desc(), member.username.asc());
+            assertThat(page).extracting(Member::getId).containsExactlyElementsOf(expected.subList(offset, Math.min(offset + 7, expected.size()))
+                    .stream().map(Member::getId).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void pagingByTeamNameKeepsMembersWithoutTeam() {
+        List<Member> page = repository.findPage(member.age.lt(100), 0, 5, team.name.asc().nullsFirst());
+
+        assertEquals("loner", page.get(0).getUsername());
+        assertEquals("teamA", page.get(1).getTeam().getName());
+        assertThat(page.subList(1, page.size())).isSortedAccordingTo(Comparator.comparing((Member m) -> m.getTeam().getName()));
+    }
+}
@@ -0,0 +1,187 @@
+package kr.gracelove.querydsl.transfer;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static kr.gracelove.querydsl.entity.QMember.member;
+import static kr.gracelove.querydsl.entity.QTeam.team;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created by GraceLove
+ * Github  : https://github.com/gracelove91
+ * Blog    : https://gracelove91.tistory.com
+ * Email   : govlmo91@gmail.com
+ *
+ * @author : Eunmo Hong
+ * @since : 2026/10/19
+ */
+
+/**
+ * StatelessSession 은 트랜잭션 롤백으로 안 지워지므로 전용 인메모리 DB를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transfer-test;DB_CLOSE_DELAY=-1",
+        "transfer.batch-size=2"
+})
+class MemberTransferTest {
+
+    @Autowired
+    MemberImporter importer;
+
+    @Autowired
+    MemberExporter exporter;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Test
+    void csvRoundTrip() throws IOException {
+        List<MemberRecord> records = new ArrayList<>();
+        records.add(new MemberRecord("member1", 10, "teamA"));
+        records.add(new MemberRecord("kim, \"the\" second", 20, "teamA"));
+        records.add(new MemberRecord("member3", 30, "teamB"));
+        records.add(new MemberRecord(null, 40, null));
+        records.add(new MemberRecord("", 50, "teamB"));
+
+        StringWriter csv = new StringWriter();
+        try (MemberRecordWriter writer = RecordFormat.CSV.writer(csv)) {
+            for (MemberRecord record : records) {
+                writer.write(record);
+            }
+        }
+
+        List<MemberRecord> parsed = new ArrayList<>();
+        try (MemberRecordReader reader = RecordFormat.CSV.reader(new StringReader(csv.toString()))) {
+            MemberRecord record;
+            while ((record = reader.next()) != null) {
+                parsed.add(record);
+            }
+        }
+
+        assertEquals(records, parsed);
+    }
+
+    /**
+     * 한 줄 = 한 레코드라서 줄바꿈은 따옴표로 감싸도 못 읽는다.
+     */
+    @Test
+    void csvRejectsLineBreaks() throws IOException {
+        StringWriter csv = new StringWriter();
+        try (MemberRecordWriter writer = RecordFormat.CSV.writer(csv)) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> writer.write(new MemberRecord("first\nsecond", 10, null)));
+            assertThat(e.getMessage()).contains("first\\nsecond");
+            assertThrows(IllegalArgumentException.class, () -> writer.write(new MemberRecord("member1", 10, "team\r")));
+        }
+    }
+
+    @Test
+    void csvFileWithWrongHeaderIsRejected(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("members.csv"), "name,age\nmember1,10\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> importer.importMembers(file, RecordFormat.CSV));
+        Files.delete(file); // 닫혔으면 지울 수 있다. (윈도우)
+    }
+
+    @Test
+    void ndjsonReadsStringsNullsAndUnknownFields() throws IOException {
+        String ndjson = "{\"username\":\"member1\",\"age\":10,\"team\":null,\"extra\":{\"username\":\"nested\"}}\n";
+
+        try (MemberRecordReader reader = RecordFormat.NDJSON.reader(new StringReader(ndjson))) {
+            MemberRecord record = reader.next();
+            assertEquals("member1", record.getUsername());
+            assertEquals(10, record.getAge());
+            assertNull(record.getTeamName());
+            assertNull(reader.next());
+        }
+    }
+
+    /**
+     * 잘못된 값을 0 이나 엉뚱한 필드로 읽지 않고 위치와 함께 거절한다.
+     */
+    @Test
+    void ndjsonRejectsInvalidValues() {
+        assertInvalidNdjson("{\"username\":\"member1\",\"age\":\"abc\"}");
+        assertInvalidNdjson("{\"username\":\"member1\",\"age\":1.5}");
+        assertInvalidNdjson("{\"username\":\"member1\",\"age\":null}");
+        assertInvalidNdjson("{\"username\":\"member1\",\"age\":12345678901}");
+        assertInvalidNdjson("{\"username\":\"member1\"}");
+        assertInvalidNdjson("{\"username\":{\"age\":10},\"age\":10}");
+        assertInvalidNdjson("{\"username\":\"member1\",\"age\":10,\"team\":[\"teamA\"]}");
+        assertInvalidNdjson("{\"username\":10,\"age\":10}");
+    }
+
+    private static void assertInvalidNdjson(String line) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> {
+            try (MemberRecordReader reader = RecordFormat.NDJSON.reader(new StringReader(line))) {
+                reader.next();
+            }
+        }, line);
+        assertThat(e.getMessage()).contains("line: 1");
+    }
+
+    @Test
+    void importThenExport(@TempDir Path directory) throws IOException {
+        String ndjson = "{\"username\":\"member1\",\"age\":10,\"team\":\"teamA\"}\n" +
+                "{\"username\":\"member2\",\"age\":20,\"team\":\"teamA\"}\n" +
+                "{\"username\":\"member3\",\"age\":30,\"team\":\"teamB\"}\n" +
+                "{\"username\":\"member4\",\"age\":40,\"team\":null}\n" +
+                "{\"username\":\"member5\",\"age\":50,\"team\":\"teamB\",\"unknown\":[1,2]}\n";
+
+        TransferResult imported = importer.importMembers(new StringReader(ndjson), RecordFormat.NDJSON);
+
+        assertEquals(5, imported.getRows());
+        assertEquals(5, queryFactory.selectFrom(member).fetchCount());
+        assertEquals(2, queryFactory.selectFrom(team).fetchCount());
+        assertEquals("teamB", queryFactory
+                .select(team.name)
+                .from(member)
+                .join(member.team, team)
+                .where(member.username.eq("member5"))
+                .fetchOne());
+
+        TransferResult exported = exporter.exportMembers(directory, RecordFormat.CSV, 3);
+
+        assertEquals(5, exported.getRows());
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.sorted().collect(Collectors.toList())) {
+                List<String> fileLines = Files.readAllLines(file, StandardCharsets.UTF_8);
+                lines.addAll(fileLines.subList(1, fileLines.size())); // 헤더 제외
+            }
+        }
+        assertThat(lines).containsExactly(
+                "member1,10,teamA",
+                "member2,20,teamA",
+                "member3,30,teamB",
+                "member4,40,",
+                "member5,50,teamB");
+
+        // id 5개를 4개로 나누면 범위는 2개씩 3개. 빈 파일은 안 생긴다.
+        Path four = directory.resolve("four");
+        assertEquals(5, exporter.exportMembers(four, RecordFormat.CSV, 4).getRows());
+        try (Stream<Path> files = Files.list(four)) {
+            List<Path> partitions = files.sorted().collect(Collectors.toList());
+            assertEquals(3, partitions.size());
+            for (Path partition : partitions) {
+                assertThat(Files.readAllLines(partition, StandardCharsets.UTF_8)).hasSizeGreaterThan(1);
+            }
+        }
+    }
+}